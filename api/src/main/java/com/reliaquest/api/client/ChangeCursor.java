@@ -0,0 +1,37 @@
+package com.reliaquest.api.client;
+
+/**
+ * Position in the mock employee API's change feed that a roster was read at.
+ *
+ * @param epoch identifies the upstream instance; sequences from another instance do not apply
+ * @param sequence the upstream roster version; the feed is read from here on
+ */
+public record ChangeCursor(String epoch, long sequence) {
+
+    /**
+     * Response header carrying the cursor of the roster in the body, as {@code <epoch>:<sequence>}.
+     */
+    public static final String HEADER = "X-Change-Cursor";
+
+    /**
+     * @return the cursor in {@code header}, or {@code null} when it is missing or malformed
+     */
+    public static ChangeCursor parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        final int separator = header.lastIndexOf(':');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new ChangeCursor(header.substring(0, separator), Long.parseLong(header.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public ChangeCursor advancedTo(long sequence) {
+        return new ChangeCursor(epoch, sequence);
+    }
+}
@@ -0,0 +1,170 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * {@link EmployeeClient} decorator that lets concurrent identical reads share one upstream call.
+ * <p>
+ * The first caller to ask for the roster, or for a given id, makes the call; everyone asking for the same thing while
+ * it is in flight gets the same result. Conditional roster reads are shared between callers sending the same entity
+ * tag, change feed reads between callers reading from the same version, and queries between callers sending the same
+ * query. Once the call completes the next request goes upstream again, so nothing is cached here. Writes are passed
+ * straight through, and so are streams, since each one feeds its own consumer.
+ * <p>
+ * As a {@link MeterBinder} it publishes its read counts and dedup ratio under {@code employee.coalescing}.
+ */
+public class CoalescingEmployeeClient implements EmployeeClient, MeterBinder {
+
+    private static final String ALL_EMPLOYEES = "all";
+
+    private final EmployeeClient delegate;
+    private final ConcurrentMap<String, CompletableFuture<List<Employee>>> rosterCalls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<RosterResponse>> conditionalRosterCalls =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<ChangeFeed>> changeCalls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Employee>> employeeCalls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<EmployeePage>> queryCalls = new ConcurrentHashMap<>();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder coalescedReads = new LongAdder();
+
+    public CoalescingEmployeeClient(@NonNull EmployeeClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return coalesce(rosterCalls, ALL_EMPLOYEES, delegate::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return coalesce(
+                conditionalRosterCalls,
+                ifNoneMatch == null ? ALL_EMPLOYEES : ifNoneMatch,
+                () -> delegate.getAllEmployees(ifNoneMatch));
+    }
+
+    @Override
+    public CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return coalesce(changeCalls, Long.toString(since), () -> delegate.getChangesSince(since));
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return delegate.streamAllEmployees(consumer);
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        return coalesce(queryCalls, query.toQueryParams().toString(), () -> delegate.queryEmployees(query));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return coalesce(employeeCalls, id, () -> delegate.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return delegate.createEmployee(employeeInput);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return delegate.deleteEmployeeByName(name);
+    }
+
+    @Override
+    public CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return delegate.deleteEmployeeById(id);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        return delegate.createEmployees(employeeInputs);
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        return delegate.deleteEmployeesByName(names);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        return delegate.deleteEmployeesById(ids);
+    }
+
+    public long getReads() {
+        return reads.sum();
+    }
+
+    public long getCoalescedReads() {
+        return coalescedReads.sum();
+    }
+
+    /**
+     * @return share of reads that were answered by another caller's upstream call, {@code 0} before the first read
+     */
+    public double getDedupRatio() {
+        final long total = reads.sum();
+        return total == 0 ? 0 : (double) coalescedReads.sum() / total;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("employee.coalescing.reads", this, CoalescingEmployeeClient::getReads)
+                .description("Reads asked of the coalescing client")
+                .register(registry);
+        FunctionCounter.builder("employee.coalescing.coalesced", this, CoalescingEmployeeClient::getCoalescedReads)
+                .description("Reads answered by another caller's upstream call")
+                .register(registry);
+        Gauge.builder("employee.coalescing.dedup.ratio", this, CoalescingEmployeeClient::getDedupRatio)
+                .register(registry);
+    }
+
+    private <T> CompletableFuture<T> coalesce(
+            ConcurrentMap<String, CompletableFuture<T>> calls, String key, Supplier<CompletableFuture<T>> call) {
+        reads.increment();
+        final var promise = new CompletableFuture<T>();
+        final var inFlight = calls.putIfAbsent(key, promise);
+        if (inFlight != null) {
+            coalescedReads.increment();
+            return inFlight.copy();
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        // Unregister before completing, so a caller arriving afterwards starts a fresh call instead of joining a
+        // finished one.
+        result.whenComplete((value, failure) -> {
+            calls.remove(key, promise);
+            if (failure == null) {
+                promise.complete(value);
+            } else {
+                promise.completeExceptionally(failure);
+            }
+        });
+        // Every caller gets a copy, so none of them can cancel or complete the shared future for the others.
+        return promise.copy();
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Calls to the mock employee API.
+ * <p>
+ * Every call returns a future so a non-blocking implementation can keep many requests in flight on a few event-loop
+ * threads. Blocking implementations do the work on the calling thread and hand back an already completed future.
+ * Failures complete the future exceptionally with the underlying client exception.
+ */
+public interface EmployeeClient {
+
+    /**
+     * @return all employees, or an empty list when the response carries no data
+     */
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    /**
+     * Reads the roster unless it still matches {@code ifNoneMatch}. Clients that cannot make conditional requests read
+     * the full roster every time.
+     *
+     * @param ifNoneMatch entity tag of the roster the caller already has, or {@code null} for an unconditional read
+     */
+    default CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return getAllEmployees().thenApply(employees -> RosterResponse.modified(employees, null, null));
+    }
+
+    /**
+     * Reads the roster changes made upstream after version {@code since}. Clients that cannot read the change feed
+     * report every version as too old, so callers reload the full roster instead.
+     *
+     * @return the changes, or {@code null} when the upstream no longer retains all of them
+     */
+    default CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Streams the roster, handing employees to {@code consumer} one at a time as they are read, so the roster is never
+     * held in memory as a whole. Clients that cannot stream read the full roster and then hand it over.
+     *
+     * @return the number of employees streamed
+     */
+    default CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return getAllEmployees().thenApply(employees -> {
+            employees.forEach(consumer);
+            return (long) employees.size();
+        });
+    }
+
+    /**
+     * Runs {@code query} upstream and reads one page of its matches. Clients that cannot query upstream answer
+     * {@code null}, and callers evaluate the query against the full roster instead.
+     *
+     * @return the page, or {@code null} when the query could not be run upstream
+     */
+    default CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * @return the employee, or {@code null} when the response carries no data
+     */
+    CompletableFuture<Employee> getEmployeeById(String id);
+
+    /**
+     * @return the created employee, or {@code null} when the response carries no data
+     */
+    CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput);
+
+    /**
+     * @return whether an employee was deleted, {@code false} when the response carries no data
+     */
+    CompletableFuture<Boolean> deleteEmployeeByName(String name);
+
+    /**
+     * Deletes exactly the employee with {@code id}, whatever namesakes it has. Clients that cannot delete by id look
+     * the employee up and delete by name, which takes the earliest namesake.
+     *
+     * @return the deleted employee, or {@code null} when there is no employee with that id
+     */
+    default CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return getEmployeeById(id).thenCompose(employee -> employee == null
+                ? CompletableFuture.completedFuture(null)
+                : deleteEmployeeByName(employee.getEmployeeName()).thenApply(deleted -> deleted ? employee : null));
+    }
+
+    /**
+     * Creates the employees in one upstream call. Clients without batch support create them one call at a time, in
+     * order.
+     *
+     * @return the created employees in input order, or an empty list when the response carries no data
+     */
+    default CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        CompletableFuture<List<Employee>> result = CompletableFuture.completedFuture(new ArrayList<>());
+        for (final var employeeInput : employeeInputs) {
+            result = result.thenCompose(created -> createEmployee(employeeInput).thenApply(employee -> {
+                created.add(employee);
+                return created;
+            }));
+        }
+        return result;
+    }
+
+    /**
+     * Deletes by each name in one upstream call, the earliest match per name, so a name listed twice deletes two
+     * employees. Clients without batch support delete one call at a time, in order.
+     *
+     * @return whether an employee was deleted for each name in order, or an empty list when the response carries no
+     *     data
+     */
+    default CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        CompletableFuture<List<Boolean>> result = CompletableFuture.completedFuture(new ArrayList<>());
+        for (final var name : names) {
+            result = result.thenCompose(deleted -> deleteEmployeeByName(name).thenApply(outcome -> {
+                deleted.add(outcome);
+                return deleted;
+            }));
+        }
+        return result;
+    }
+
+    /**
+     * Deletes exactly the employee with each id in one upstream call, whatever namesakes it has. Clients without batch
+     * support delete one call at a time, in order; see {@link #deleteEmployeeById(String)}.
+     *
+     * @return the deleted employee for each id in order, {@code null} where there is no employee with that id, or an
+     *     empty list when the response carries no data
+     */
+    default CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        CompletableFuture<List<Employee>> result = CompletableFuture.completedFuture(new ArrayList<>());
+        for (final var id : ids) {
+            result = result.thenCompose(deleted -> deleteEmployeeById(id).thenApply(employee -> {
+                deleted.add(employee);
+                return deleted;
+            }));
+        }
+        return result;
+    }
+}
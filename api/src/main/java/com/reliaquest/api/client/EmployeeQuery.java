@@ -0,0 +1,52 @@
+package com.reliaquest.api.client;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * Roster query evaluated by the mock employee API, so only the matching page of employees, and only the requested
+ * fields of each, cross the wire.
+ *
+ * @param name case-insensitive substring of the employee name
+ * @param sort {@code salary}, or {@code -salary} for the highest salaries first; roster order when {@code null}
+ * @param cursor the {@code nextCursor} of the previous page, {@code null} for the first one
+ * @param fields employee fields to return, by their short names ({@code id}, {@code name}, {@code salary}, {@code age},
+ *     {@code title}, {@code email}); all of them when {@code null}
+ */
+@Builder
+public record EmployeeQuery(
+        String name,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        String sort,
+        Integer limit,
+        String cursor,
+        List<String> fields) {
+
+    /**
+     * @return the query parameters that are set, in a stable order, so equal queries yield equal maps
+     */
+    public Map<String, String> toQueryParams() {
+        final var params = new LinkedHashMap<String, String>();
+        put(params, "name", name);
+        put(params, "minSalary", minSalary);
+        put(params, "maxSalary", maxSalary);
+        put(params, "minAge", minAge);
+        put(params, "maxAge", maxAge);
+        put(params, "sort", sort);
+        put(params, "limit", limit);
+        put(params, "cursor", cursor);
+        put(params, "fields", fields == null ? null : String.join(",", fields));
+        return params;
+    }
+
+    private static void put(Map<String, String> params, String key, Object value) {
+        if (value != null) {
+            params.put(key, value.toString());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * {@link EmployeeClient} decorator that times every upstream call in {@value #CALLS}, tagged with the call and its
+ * outcome: {@code success}, {@code throttled} for a 429, {@code client_error}, {@code server_error}, or {@code error}
+ * when no response came back. It sits right on top of the HTTP client, so it sees each call that reaches the upstream
+ * and nothing the throttle rejected or the coalescer shared.
+ */
+public class MeteredEmployeeClient implements EmployeeClient {
+
+    public static final String CALLS = "employee.upstream.calls";
+
+    private final EmployeeClient delegate;
+    private final MeterRegistry registry;
+
+    public MeteredEmployeeClient(@NonNull EmployeeClient delegate, @NonNull MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return time("getAllEmployees", delegate::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return time("getAllEmployees", () -> delegate.getAllEmployees(ifNoneMatch));
+    }
+
+    @Override
+    public CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return time("getChangesSince", () -> delegate.getChangesSince(since));
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return time("streamAllEmployees", () -> delegate.streamAllEmployees(consumer));
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        return time("queryEmployees", () -> delegate.queryEmployees(query));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return time("getEmployeeById", () -> delegate.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return time("createEmployee", () -> delegate.createEmployee(employeeInput));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return time("deleteEmployeeByName", () -> delegate.deleteEmployeeByName(name));
+    }
+
+    @Override
+    public CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return time("deleteEmployeeById", () -> delegate.deleteEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        return time("createEmployees", () -> delegate.createEmployees(employeeInputs));
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        return time("deleteEmployeesByName", () -> delegate.deleteEmployeesByName(names));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        return time("deleteEmployeesById", () -> delegate.deleteEmployeesById(ids));
+    }
+
+    private <T> CompletableFuture<T> time(String call, Supplier<CompletableFuture<T>> exchange) {
+        final var sample = Timer.start(registry);
+        CompletableFuture<T> result;
+        try {
+            result = exchange.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, failure) ->
+                sample.stop(registry.timer(CALLS, "call", call, "outcome", outcome(failure))));
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        final var cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        final int status;
+        if (cause instanceof RestClientResponseException e) {
+            status = e.getStatusCode().value();
+        } else if (cause instanceof WebClientResponseException e) {
+            status = e.getStatusCode().value();
+        } else {
+            return "error";
+        }
+        if (status == 429) {
+            return "throttled";
+        }
+        return status >= 500 ? "server_error" : "client_error";
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
+import com.reliaquest.api.codec.WireFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+/**
+ * JSON or Smile decoder for {@link WebClientEmployeeClient} that records the size and decode time of each response
+ * body. Single values are decoded once their body has been joined in memory, so the time spent receiving it is not
+ * counted; streamed bodies are decoded as they arrive and are left out. Single employee bodies are decoded by
+ * {@link EmployeeJsonCodec}, everything else by Jackson databind.
+ */
+public class MeteredJsonDecoder extends AbstractJackson2Decoder {
+
+    private final UpstreamPayloadMeters meters;
+    private final WireFormat format;
+
+    public MeteredJsonDecoder(@NonNull MeterRegistry registry) {
+        this(registry, WireFormat.JSON, Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private MeteredJsonDecoder(MeterRegistry registry, WireFormat format, ObjectMapper objectMapper) {
+        super(objectMapper, format.getMediaTypes());
+        this.meters = new UpstreamPayloadMeters(registry, "reactive", format);
+        this.format = format;
+    }
+
+    /**
+     * @return a decoder for Smile bodies, in place of Spring's own
+     */
+    public static MeteredJsonDecoder smile(@NonNull MeterRegistry registry) {
+        return new MeteredJsonDecoder(registry, WireFormat.SMILE, Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    @Override
+    public Object decode(
+            DataBuffer dataBuffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints)
+            throws DecodingException {
+        meters.recordPayload(dataBuffer.readableByteCount());
+        final long started = System.nanoTime();
+        try {
+            if (EmployeeJsonCodec.canRead(targetType.getType())) {
+                try (final var in = dataBuffer.asInputStream(true)) {
+                    return EmployeeJsonCodec.read(format.getFactory(), in, targetType.getType());
+                } catch (IOException e) {
+                    throw new DecodingException(format + " decoding error: " + e.getMessage(), e);
+                }
+            }
+            return super.decode(dataBuffer, targetType, mimeType, hints);
+        } finally {
+            meters.recordDecode(started);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
+import com.reliaquest.api.codec.EmployeeJsonHttpMessageConverter;
+import com.reliaquest.api.codec.WireFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JSON or Smile converter for {@link RestTemplateEmployeeClient} that records the size of each response body and the
+ * time spent decoding it. Bodies are decoded straight off the connection through a stream that counts the bytes and
+ * the time spent blocked reading them, so decode time excludes the wait for the network without the body ever being
+ * copied into memory in full. Employee bodies are decoded by {@link EmployeeJsonCodec}, everything else by Jackson
+ * databind.
+ */
+public class MeteredJsonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final UpstreamPayloadMeters meters;
+    private final EmployeeJsonHttpMessageConverter employees;
+
+    public MeteredJsonHttpMessageConverter(@NonNull MeterRegistry registry) {
+        this(registry, WireFormat.JSON, Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private MeteredJsonHttpMessageConverter(MeterRegistry registry, WireFormat format, ObjectMapper objectMapper) {
+        super(objectMapper, format.getMediaTypes());
+        this.meters = new UpstreamPayloadMeters(registry, "blocking", format);
+        this.employees = new EmployeeJsonHttpMessageConverter(format);
+    }
+
+    /**
+     * @return a converter for Smile bodies, in place of Spring's own
+     */
+    public static MeteredJsonHttpMessageConverter smile(@NonNull MeterRegistry registry) {
+        return new MeteredJsonHttpMessageConverter(
+                registry, WireFormat.SMILE, Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        final var metered = new MeteredInputMessage(inputMessage);
+        final long started = System.nanoTime();
+        try {
+            return EmployeeJsonCodec.canRead(type)
+                    ? employees.read(type, contextClass, metered)
+                    : super.read(type, contextClass, metered);
+        } finally {
+            metered.record(started);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        final var metered = new MeteredInputMessage(inputMessage);
+        final long started = System.nanoTime();
+        try {
+            return EmployeeJsonCodec.canRead(clazz)
+                    ? employees.read(clazz, null, metered)
+                    : super.readInternal(clazz, metered);
+        } finally {
+            metered.record(started);
+        }
+    }
+
+    /**
+     * The response with its body wrapped in a {@link CountingInputStream}, created on first use since a converter may
+     * ask for the body more than once.
+     */
+    private final class MeteredInputMessage implements HttpInputMessage {
+
+        private final HttpInputMessage inputMessage;
+        private CountingInputStream body;
+
+        MeteredInputMessage(HttpInputMessage inputMessage) {
+            this.inputMessage = inputMessage;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(inputMessage.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return inputMessage.getHeaders();
+        }
+
+        /**
+         * @param started {@link System#nanoTime()} when decoding began
+         */
+        void record(long started) {
+            meters.recordPayload(body == null ? 0 : body.getBytes());
+            meters.recordDecode(started, body == null ? 0 : body.getReadNanos());
+        }
+    }
+
+    /**
+     * Counts the bytes read and the time spent inside the underlying stream's reads, which for a response body is
+     * mostly time waiting on the connection.
+     */
+    static final class CountingInputStream extends FilterInputStream {
+
+        private long bytes;
+        private long readNanos;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final long started = System.nanoTime();
+            final int value = super.read();
+            readNanos += System.nanoTime() - started;
+            if (value >= 0) {
+                bytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            final long started = System.nanoTime();
+            final int read = super.read(buffer, offset, length);
+            readNanos += System.nanoTime() - started;
+            if (read > 0) {
+                bytes += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long started = System.nanoTime();
+            final long skipped = super.skip(n);
+            readNanos += System.nanoTime() - started;
+            bytes += skipped;
+            return skipped;
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+
+        long getReadNanos() {
+            return readNanos;
+        }
+    }
+}
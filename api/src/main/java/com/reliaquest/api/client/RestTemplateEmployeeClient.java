@@ -0,0 +1,263 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Blocking {@link EmployeeClient} on {@link RestTemplate}; each call holds the calling thread until the response is
+ * read.
+ */
+@Slf4j
+public class RestTemplateEmployeeClient implements EmployeeClient {
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+
+    public RestTemplateEmployeeClient(RestTemplate restTemplate, String baseUrl) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return getAllEmployees(null).thenApply(RosterResponse::employees);
+    }
+
+    @Override
+    public CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return call(() -> {
+            HttpEntity<Void> request = null;
+            if (ifNoneMatch != null) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setIfNoneMatch(ifNoneMatch);
+                request = new HttpEntity<>(headers);
+            }
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    baseUrl,
+                    HttpMethod.GET,
+                    request,
+                    new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+
+            String etag = response.getHeaders().getETag();
+            ChangeCursor cursor = ChangeCursor.parse(response.getHeaders().getFirst(ChangeCursor.HEADER));
+            if (ifNoneMatch != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return RosterResponse.notModified(etag != null ? etag : ifNoneMatch, cursor);
+            }
+            if (response.getBody() != null && response.getBody().getData() != null) {
+                return RosterResponse.modified(response.getBody().getData(), etag, cursor);
+            }
+            log.warn("Received null or empty response from mock API");
+            return RosterResponse.modified(List.of(), etag, cursor);
+        });
+    }
+
+    @Override
+    public CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return call(() -> {
+            try {
+                ResponseEntity<ApiResponse<ChangeFeed>> response = restTemplate.exchange(
+                        baseUrl + "/changes?since=" + since,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<ApiResponse<ChangeFeed>>() {});
+
+                return response.getBody() != null ? response.getBody().getData() : null;
+            } catch (HttpClientErrorException.Gone e) {
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return call(() -> restTemplate.execute(
+                baseUrl + "/export",
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                response -> {
+                    // Reads one line at a time straight off the connection instead of buffering the body.
+                    long count = 0;
+                    try (JsonParser parser = EmployeeJsonCodec.FACTORY.createParser(response.getBody())) {
+                        while (parser.nextToken() != null) {
+                            consumer.accept(EmployeeJsonCodec.readEmployee(parser));
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        return call(() -> {
+            Map<String, String> params = query.toQueryParams();
+            UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(baseUrl);
+            params.keySet().forEach(param -> uri.queryParam(param, "{" + param + "}"));
+
+            ResponseEntity<ApiResponse<EmployeePage>> response = restTemplate.exchange(
+                    uri.encode().buildAndExpand(params).toUri(),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {});
+
+            return response.getBody() != null ? response.getBody().getData() : null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return call(() -> {
+            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                    baseUrl + "/" + id,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+
+            return response.getBody() != null ? response.getBody().getData() : null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return call(() -> {
+            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                    baseUrl,
+                    HttpMethod.POST,
+                    jsonEntity(createBody(employeeInput)),
+                    new ParameterizedTypeReference<>() {});
+
+            return response.getBody() != null ? response.getBody().getData() : null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return call(() -> {
+            // Create request body with employee name as expected by mock server
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("name", name);
+
+            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
+                    baseUrl, HttpMethod.DELETE, jsonEntity(requestBody), new ParameterizedTypeReference<>() {});
+
+            return response.getBody() != null && Boolean.TRUE.equals(response.getBody().getData());
+        });
+    }
+
+    @Override
+    public CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return call(() -> {
+            try {
+                ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                        baseUrl + "/" + id,
+                        HttpMethod.DELETE,
+                        null,
+                        new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+
+                return response.getBody() != null ? response.getBody().getData() : null;
+            } catch (HttpClientErrorException.NotFound e) {
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        return call(() -> {
+            List<Map<String, Object>> requestBody = employeeInputs.stream()
+                    .map(RestTemplateEmployeeClient::createBody)
+                    .toList();
+
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    baseUrl + "/batch",
+                    HttpMethod.POST,
+                    jsonEntity(requestBody),
+                    new ParameterizedTypeReference<>() {});
+
+            return response.getBody() != null && response.getBody().getData() != null
+                    ? response.getBody().getData()
+                    : List.of();
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        return call(() -> {
+            List<Map<String, Object>> requestBody =
+                    names.stream().map(name -> Map.<String, Object>of("name", name)).toList();
+
+            ResponseEntity<ApiResponse<List<Boolean>>> response = restTemplate.exchange(
+                    baseUrl + "/batch",
+                    HttpMethod.DELETE,
+                    jsonEntity(requestBody),
+                    new ParameterizedTypeReference<>() {});
+
+            return response.getBody() != null && response.getBody().getData() != null
+                    ? response.getBody().getData()
+                    : List.of();
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        return call(() -> {
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    baseUrl + "/batch/ids",
+                    HttpMethod.DELETE,
+                    jsonEntity(ids),
+                    new ParameterizedTypeReference<>() {});
+
+            return response.getBody() != null && response.getBody().getData() != null
+                    ? response.getBody().getData()
+                    : List.of();
+        });
+    }
+
+    /*
+     * Maps EmployeeInput to the format expected by mock server
+     */
+    private static Map<String, Object> createBody(EmployeeInput employeeInput) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("name", employeeInput.getName());
+        requestBody.put("salary", employeeInput.getSalary());
+        requestBody.put("age", employeeInput.getAge());
+        requestBody.put("title", employeeInput.getTitle());
+        return requestBody;
+    }
+
+    private static <B> HttpEntity<B> jsonEntity(B body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static <T> CompletableFuture<T> call(Supplier<T> exchange) {
+        try {
+            return CompletableFuture.completedFuture(exchange.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
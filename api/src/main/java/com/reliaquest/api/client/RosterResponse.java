@@ -0,0 +1,23 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Result of a conditional roster read.
+ *
+ * @param employees the roster, {@code null} when {@code notModified}
+ * @param etag the upstream entity tag of this roster, {@code null} when the upstream sent none
+ * @param cursor where the upstream change feed continues from this roster, {@code null} when the upstream sent none
+ * @param notModified whether the upstream answered 304 because the roster still matches the tag that was sent
+ */
+public record RosterResponse(List<Employee> employees, String etag, ChangeCursor cursor, boolean notModified) {
+
+    public static RosterResponse modified(List<Employee> employees, String etag, ChangeCursor cursor) {
+        return new RosterResponse(employees, etag, cursor, false);
+    }
+
+    public static RosterResponse notModified(String etag, ChangeCursor cursor) {
+        return new RosterResponse(null, etag, cursor, true);
+    }
+}
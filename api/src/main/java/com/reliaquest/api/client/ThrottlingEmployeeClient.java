@@ -0,0 +1,392 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * {@link EmployeeClient} decorator that keeps the api inside the mock employee API's rate limit.
+ * <p>
+ * The upstream grants a fixed number of requests and then answers 429 until a quiet window has passed, so what needs
+ * governing is how many calls are spent per window, not how many run at once. The client learns that budget: the
+ * calls the upstream accepted since the last refill are counted, and the first 429 sets the budget to that count. A
+ * 429 also opens a backoff window, taken from {@code Retry-After} when the upstream sends one, during which calls fail
+ * fast with {@link UpstreamThrottledException} instead of spending requests that are bound to be rejected. Once the
+ * window has passed a single probe call is let through; if it is throttled again the backoff doubles, up to
+ * {@code maxBackoff}, and if it is accepted the budget is refilled. From then on a window's budget is handed out as
+ * tokens, and a call that finds none left backs off for the learned window, counted from the last call let through,
+ * rather than being sent to collect a 429.
+ * <p>
+ * Independently of the budget, calls beyond {@code maxConcurrent} in flight queue for up to {@code queueTimeout}.
+ * Upstream 429 failures are reported as {@link UpstreamThrottledException} as well, so callers only need to handle one
+ * type.
+ * <p>
+ * As a {@link MeterBinder} it publishes its counters, learned budget and remaining tokens under
+ * {@code employee.throttle}.
+ */
+@Slf4j
+public class ThrottlingEmployeeClient implements EmployeeClient, MeterBinder {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int UNKNOWN = -1;
+
+    private final EmployeeClient delegate;
+    private final int maxConcurrent;
+    private final long queueTimeoutNanos;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongSupplier nanoTime;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // Guarded by lock. The budget and tokens are UNKNOWN until the first 429.
+    private int inFlight;
+    private int budget = UNKNOWN;
+    private int tokens = UNKNOWN;
+    private int accepted;
+    private boolean blocked;
+    private boolean probing;
+    private long blockedUntil;
+    private long lastAdmitted;
+    private long backoffNanos;
+
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder throttledResponses = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public ThrottlingEmployeeClient(
+            @NonNull EmployeeClient delegate,
+            int maxConcurrent,
+            @NonNull Duration queueTimeout,
+            @NonNull Duration initialBackoff,
+            @NonNull Duration maxBackoff) {
+        this(delegate, maxConcurrent, queueTimeout, initialBackoff, maxBackoff, System::nanoTime);
+    }
+
+    ThrottlingEmployeeClient(
+            EmployeeClient delegate,
+            int maxConcurrent,
+            Duration queueTimeout,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            LongSupplier nanoTime) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = Math.max(maxBackoff.toNanos(), initialBackoffNanos);
+        this.nanoTime = nanoTime;
+        this.backoffNanos = initialBackoffNanos;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return govern(delegate::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return govern(() -> delegate.getAllEmployees(ifNoneMatch));
+    }
+
+    @Override
+    public CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return govern(() -> delegate.getChangesSince(since));
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return govern(() -> delegate.streamAllEmployees(consumer));
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        return govern(() -> delegate.queryEmployees(query));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return govern(() -> delegate.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return govern(() -> delegate.createEmployee(employeeInput));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return govern(() -> delegate.deleteEmployeeByName(name));
+    }
+
+    @Override
+    public CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return govern(() -> delegate.deleteEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        return govern(() -> delegate.createEmployees(employeeInputs));
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        return govern(() -> delegate.deleteEmployeesByName(names));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        return govern(() -> delegate.deleteEmployeesById(ids));
+    }
+
+    public long getUpstreamCalls() {
+        return upstreamCalls.sum();
+    }
+
+    public long getThrottledResponses() {
+        return throttledResponses.sum();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * @return the calls the upstream accepts per window, as last observed, or {@code -1} before the first 429
+     */
+    public int getBudget() {
+        lock.lock();
+        try {
+            return budget;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the calls left in the current window's budget, or {@code -1} before the first 429
+     */
+    public int getTokens() {
+        lock.lock();
+        try {
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("employee.throttle.admitted", this, ThrottlingEmployeeClient::getUpstreamCalls)
+                .description("Calls let through to the mock employee API")
+                .register(registry);
+        FunctionCounter.builder("employee.throttle.throttled", this, ThrottlingEmployeeClient::getThrottledResponses)
+                .description("Calls the mock employee API answered with 429")
+                .register(registry);
+        FunctionCounter.builder("employee.throttle.rejected", this, ThrottlingEmployeeClient::getRejectedCalls)
+                .description("Calls failed fast while backing off or after queueing too long")
+                .register(registry);
+        Gauge.builder("employee.throttle.budget", this, ThrottlingEmployeeClient::getBudget)
+                .description("Calls the mock employee API accepts per window, -1 until it first throttles")
+                .register(registry);
+        Gauge.builder("employee.throttle.tokens", this, ThrottlingEmployeeClient::getTokens)
+                .description("Calls left in the current window, -1 until the mock employee API first throttles")
+                .register(registry);
+    }
+
+    private <T> CompletableFuture<T> govern(Supplier<CompletableFuture<T>> call) {
+        final boolean probe;
+        try {
+            probe = acquire();
+        } catch (UpstreamThrottledException e) {
+            rejectedCalls.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        upstreamCalls.increment();
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((value, failure) -> {
+            if (failure == null) {
+                release(probe, null);
+                return value;
+            }
+            final var cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            final var headers = tooManyRequestsHeaders(cause);
+            if (headers == null) {
+                release(probe, null);
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(cause);
+            }
+            final var retryAfter = retryAfter(headers);
+            release(probe, retryAfter);
+            throw new UpstreamThrottledException("Mock employee API rate limit reached", retryAfter, cause);
+        });
+    }
+
+    /**
+     * @return whether the caller was admitted as the probe that ends a backoff window
+     */
+    private boolean acquire() {
+        long remaining = queueTimeoutNanos;
+        lock.lock();
+        try {
+            while (true) {
+                if (blocked) {
+                    final long now = nanoTime.getAsLong();
+                    if (now - blockedUntil < 0 || probing) {
+                        throw new UpstreamThrottledException(
+                                "Backing off from mock employee API rate limit",
+                                Duration.ofNanos(Math.max(blockedUntil - now, 0)));
+                    }
+                    probing = true;
+                    admit();
+                    return true;
+                }
+                if (tokens == 0) {
+                    blocked = true;
+                    blockedUntil = lastAdmitted + backoffNanos;
+                    log.info(
+                            "Spent the mock employee API budget of {} calls, holding off for {} ms",
+                            budget,
+                            TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                    continue;
+                }
+                if (inFlight < maxConcurrent) {
+                    if (tokens > 0) {
+                        tokens--;
+                    }
+                    admit();
+                    return false;
+                }
+                if (remaining <= 0) {
+                    throw new UpstreamThrottledException(
+                            "Timed out waiting for a mock employee API call slot", Duration.ZERO);
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamThrottledException(
+                    "Interrupted waiting for a mock employee API call slot", Duration.ZERO, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Called with the lock held.
+     */
+    private void admit() {
+        inFlight++;
+        lastAdmitted = nanoTime.getAsLong();
+    }
+
+    /**
+     * @param retryAfter {@code null} unless the call was answered with a 429
+     */
+    private void release(boolean probe, Duration retryAfter) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (retryAfter != null) {
+                throttledResponses.increment();
+                if (probe) {
+                    probing = false;
+                    backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+                    block(retryAfter);
+                } else if (!blocked) {
+                    budget = Math.max(1, accepted);
+                    tokens = 0;
+                    block(retryAfter);
+                }
+            } else {
+                // Anything but a 429 counts as accepted. A call that never reached the upstream makes the budget
+                // err high, which the next 429 corrects.
+                accepted++;
+                if (probe) {
+                    probing = false;
+                    blocked = false;
+                    accepted = 1;
+                    tokens = budget - 1;
+                    log.info("Mock employee API accepting calls again, refilled the budget of {} calls", budget);
+                } else if (blocked) {
+                    // Calls in flight when the 429 came back still count towards the window they were accepted in.
+                    budget = Math.max(budget, accepted);
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * The backoff that let a probe through is kept, as the upstream's window does not change between windows.
+     */
+    private void block(Duration retryAfter) {
+        final long wait = Math.max(backoffNanos, retryAfter.toNanos());
+        blocked = true;
+        blockedUntil = nanoTime.getAsLong() + wait;
+        log.warn(
+                "Mock employee API rate limit reached, backing off for {} ms with a budget of {} calls",
+                TimeUnit.NANOSECONDS.toMillis(wait),
+                budget);
+    }
+
+    /**
+     * @return the response headers when {@code failure} is a 429 from either client, otherwise {@code null}
+     */
+    private static HttpHeaders tooManyRequestsHeaders(Throwable failure) {
+        if (failure instanceof RestClientResponseException e && e.getStatusCode().value() == TOO_MANY_REQUESTS) {
+            return e.getResponseHeaders() != null ? e.getResponseHeaders() : HttpHeaders.EMPTY;
+        }
+        if (failure instanceof WebClientResponseException e && e.getStatusCode().value() == TOO_MANY_REQUESTS) {
+            return e.getHeaders();
+        }
+        return null;
+    }
+
+    private static Duration retryAfter(HttpHeaders headers) {
+        final var value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            // HTTP-date form; the mock never sends it, fall back to our own backoff.
+            return Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.codec.WireFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size and decode time of the JSON and Smile bodies read from the upstream, tagged by format. {@value #DECODE} covers
+ * decoding alone: the reactive client decodes once the whole body has arrived, and the blocking client, which decodes
+ * as the body streams in, leaves out the time spent waiting on reads. Network time stays in
+ * {@link MeteredEmployeeClient#CALLS}.
+ */
+final class UpstreamPayloadMeters {
+
+    static final String PAYLOAD = "employee.upstream.payload";
+    static final String DECODE = "employee.upstream.decode";
+
+    private final DistributionSummary payload;
+    private final Timer decode;
+
+    UpstreamPayloadMeters(MeterRegistry registry, String client, WireFormat format) {
+        final var tags = Tags.of("client", client, "format", format.name().toLowerCase(Locale.ROOT));
+        this.payload = DistributionSummary.builder(PAYLOAD)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        this.decode = Timer.builder(DECODE).tags(tags).register(registry);
+    }
+
+    void recordPayload(long bytes) {
+        payload.record(bytes);
+    }
+
+    /**
+     * @param started {@link System#nanoTime()} when decoding began
+     */
+    void recordDecode(long started) {
+        recordDecode(started, 0);
+    }
+
+    /**
+     * @param started {@link System#nanoTime()} when decoding began
+     * @param waitedNanos time since then spent waiting for the body rather than decoding it
+     */
+    void recordDecode(long started, long waitedNanos) {
+        decode.record(Math.max(0, System.nanoTime() - started - waitedNanos), TimeUnit.NANOSECONDS);
+    }
+}
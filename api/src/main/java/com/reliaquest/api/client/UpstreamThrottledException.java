@@ -0,0 +1,25 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * The mock employee API is rate limiting us, or the call was turned away locally to avoid being rate limited.
+ */
+@Getter
+public class UpstreamThrottledException extends RuntimeException {
+
+    /**
+     * How long until the upstream is expected to accept calls again, {@link Duration#ZERO} when unknown.
+     */
+    private final Duration retryAfter;
+
+    public UpstreamThrottledException(String message, Duration retryAfter) {
+        this(message, retryAfter, null);
+    }
+
+    public UpstreamThrottledException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,224 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ChangeFeed;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking {@link EmployeeClient} on {@link WebClient}. Requests are written and responses decoded on the
+ * connector's event loop, so the number of in-flight calls is bounded by the connection pool rather than by threads.
+ */
+public class WebClientEmployeeClient implements EmployeeClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEES_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> DELETED_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<Boolean>>> BATCH_DELETED_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<ChangeFeed>> CHANGES_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EmployeePage>> PAGE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    /**
+     * @param webClient client whose base url points at the mock employee API's employee resource
+     */
+    public WebClientEmployeeClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return webClient
+                .get()
+                .retrieve()
+                .bodyToMono(EMPLOYEES_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .defaultIfEmpty(List.of())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<RosterResponse> getAllEmployees(String ifNoneMatch) {
+        return webClient
+                .get()
+                .headers(headers -> {
+                    if (ifNoneMatch != null) {
+                        headers.setIfNoneMatch(ifNoneMatch);
+                    }
+                })
+                .retrieve()
+                .toEntity(EMPLOYEES_TYPE)
+                .map(response -> {
+                    final var etag = response.getHeaders().getETag();
+                    final var cursor = ChangeCursor.parse(response.getHeaders().getFirst(ChangeCursor.HEADER));
+                    if (ifNoneMatch != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return RosterResponse.notModified(etag != null ? etag : ifNoneMatch, cursor);
+                    }
+                    final var body = response.getBody();
+                    return RosterResponse.modified(
+                            body != null && body.getData() != null ? body.getData() : List.of(), etag, cursor);
+                })
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<ChangeFeed> getChangesSince(long since) {
+        return webClient
+                .get()
+                .uri(uri -> uri.path("/changes").queryParam("since", since).build())
+                .retrieve()
+                .bodyToMono(CHANGES_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .onErrorResume(WebClientResponseException.Gone.class, e -> Mono.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Long> streamAllEmployees(Consumer<Employee> consumer) {
+        return webClient
+                .get()
+                .uri("/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .bodyToFlux(Employee.class)
+                // The consumer may block, so it runs off the event loop; publishOn's bounded queue keeps backpressure.
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(consumer)
+                .count()
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> queryEmployees(EmployeeQuery query) {
+        final var params = query.toQueryParams();
+        return webClient
+                .get()
+                .uri(uri -> {
+                    // Values go in as variables, so they are encoded in full rather than as a URI template.
+                    params.keySet().forEach(param -> uri.queryParam(param, "{" + param + "}"));
+                    return uri.build(params);
+                })
+                .retrieve()
+                .bodyToMono(PAGE_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return webClient
+                .get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return webClient
+                .post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createBody(employeeInput))
+                .retrieve()
+                .bodyToMono(EMPLOYEE_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", name))
+                .retrieve()
+                .bodyToMono(DELETED_TYPE)
+                .map(response -> Boolean.TRUE.equals(response.getData()))
+                .defaultIfEmpty(false)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Employee> deleteEmployeeById(String id) {
+        return webClient
+                .delete()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(EMPLOYEE_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> createEmployees(List<EmployeeInput> employeeInputs) {
+        return webClient
+                .post()
+                .uri("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employeeInputs.stream().map(WebClientEmployeeClient::createBody).toList())
+                .retrieve()
+                .bodyToMono(EMPLOYEES_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .defaultIfEmpty(List.of())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> deleteEmployeesByName(List<String> names) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .uri("/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(names.stream().map(name -> Map.of("name", name)).toList())
+                .retrieve()
+                .bodyToMono(BATCH_DELETED_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .defaultIfEmpty(List.of())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> deleteEmployeesById(List<String> ids) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .uri("/batch/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(EMPLOYEES_TYPE)
+                .mapNotNull(ApiResponse::getData)
+                .defaultIfEmpty(List.of())
+                .toFuture();
+    }
+
+    private static Map<String, Object> createBody(EmployeeInput employeeInput) {
+        return Map.of(
+                "name", employeeInput.getName(),
+                "salary", employeeInput.getSalary(),
+                "age", employeeInput.getAge(),
+                "title", employeeInput.getTitle());
+    }
+}
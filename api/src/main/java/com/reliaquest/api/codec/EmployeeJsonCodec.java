@@ -0,0 +1,286 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Reads and writes {@link Employee} JSON straight off a {@link JsonParser} and onto a {@link JsonGenerator}, without
+ * databind's bean deserializer, property lookup and buffering of unknown properties. Field names come back from the
+ * parser's symbol table without being copied and are written from pre-encoded keys, so apart from the employees
+ * themselves the only allocation per employee is the text of its string fields.
+ * <p>
+ * Handles {@code Employee}, {@code List<Employee>} and both wrapped in {@link ApiResponse}, the shapes of the roster
+ * and single-employee bodies. Unknown properties are skipped, as the databind readers in this module are configured
+ * to do; numbers must be JSON numbers, where databind would also coerce numeric strings. Output is byte for byte what
+ * a default {@code ObjectMapper} writes. Reads Smile, Jackson's binary JSON, the same way given {@link #SMILE_FACTORY}.
+ */
+public final class EmployeeJsonCodec {
+
+    /*
+     * No separator between root-level values, which newline-delimited output supplies itself.
+     */
+    public static final JsonFactory FACTORY =
+            new JsonFactoryBuilder().rootValueSeparator((String) null).build();
+
+    public static final JsonFactory SMILE_FACTORY = new SmileFactory();
+
+    private static final String ID = "id";
+    private static final String NAME = "employee_name";
+    private static final String SALARY = "employee_salary";
+    private static final String AGE = "employee_age";
+    private static final String TITLE = "employee_title";
+    private static final String EMAIL = "employee_email";
+    private static final String DATA = "data";
+    private static final String STATUS = "status";
+
+    private static final SerializedString ID_KEY = new SerializedString(ID);
+    private static final SerializedString NAME_KEY = new SerializedString(NAME);
+    private static final SerializedString SALARY_KEY = new SerializedString(SALARY);
+    private static final SerializedString AGE_KEY = new SerializedString(AGE);
+    private static final SerializedString TITLE_KEY = new SerializedString(TITLE);
+    private static final SerializedString EMAIL_KEY = new SerializedString(EMAIL);
+
+    private EmployeeJsonCodec() {}
+
+    /**
+     * @return whether {@link #read(JsonFactory, InputStream, Type)} can produce {@code type}
+     */
+    public static boolean canRead(Type type) {
+        return Shape.of(type) != null;
+    }
+
+    /**
+     * @return whether {@link #write(OutputStream, Object, Type)} can write {@code type}; responses are only read
+     */
+    public static boolean canWrite(Type type) {
+        final var shape = Shape.of(type);
+        return shape == Shape.EMPLOYEE || shape == Shape.EMPLOYEES;
+    }
+
+    /**
+     * Reads one JSON document of a type accepted by {@link #canRead(Type)}.
+     */
+    public static Object read(@NonNull InputStream in, @NonNull Type type) throws IOException {
+        return read(FACTORY, in, type);
+    }
+
+    /**
+     * Reads one document of a type accepted by {@link #canRead(Type)} with a parser from {@code factory}, JSON or
+     * Smile.
+     */
+    public static Object read(@NonNull JsonFactory factory, @NonNull InputStream in, @NonNull Type type)
+            throws IOException {
+        final var shape = Shape.of(type);
+        if (shape == null) {
+            throw new IllegalArgumentException("Cannot read " + type.getTypeName());
+        }
+        try (final var parser = factory.createParser(in)) {
+            final var token = parser.nextToken();
+            if (token == null) {
+                throw new JsonParseException(parser, "No content to read");
+            }
+            return switch (shape) {
+                case EMPLOYEE -> readEmployee(parser);
+                case EMPLOYEES -> readEmployees(parser);
+                case EMPLOYEE_RESPONSE -> readResponse(parser, false);
+                case EMPLOYEES_RESPONSE -> readResponse(parser, true);
+            };
+        }
+    }
+
+    /**
+     * Writes an employee or a collection of employees as one JSON document.
+     */
+    public static void write(@NonNull OutputStream out, Object value, @NonNull Type type) throws IOException {
+        if (!canWrite(type)) {
+            throw new IllegalArgumentException("Cannot write " + type.getTypeName());
+        }
+        try (final var generator = createGenerator(out)) {
+            if (value instanceof Collection<?> employees) {
+                generator.writeStartArray(employees, employees.size());
+                for (final var employee : employees) {
+                    writeEmployee(generator, (Employee) employee);
+                }
+                generator.writeEndArray();
+            } else {
+                writeEmployee(generator, (Employee) value);
+            }
+        }
+    }
+
+    /**
+     * Opens a generator on {@code out} that leaves it open when closed.
+     */
+    public static JsonGenerator createGenerator(@NonNull OutputStream out) throws IOException {
+        return FACTORY.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Reads the employee whose {@code START_OBJECT}, or {@code null} token, is the parser's current token, leaving
+     * its {@code END_OBJECT} current.
+     */
+    public static Employee readEmployee(@NonNull JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_OBJECT);
+        final var employee = new Employee();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case ID -> employee.setId(readString(parser));
+                case NAME -> employee.setEmployeeName(readString(parser));
+                case SALARY -> employee.setEmployeeSalary(readInteger(parser));
+                case AGE -> employee.setEmployeeAge(readInteger(parser));
+                case TITLE -> employee.setEmployeeTitle(readString(parser));
+                case EMAIL -> employee.setEmployeeEmail(readString(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return employee;
+    }
+
+    public static void writeEmployee(@NonNull JsonGenerator generator, Employee employee) throws IOException {
+        if (employee == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject(employee);
+        writeString(generator, ID_KEY, employee.getId());
+        writeString(generator, NAME_KEY, employee.getEmployeeName());
+        writeInteger(generator, SALARY_KEY, employee.getEmployeeSalary());
+        writeInteger(generator, AGE_KEY, employee.getEmployeeAge());
+        writeString(generator, TITLE_KEY, employee.getEmployeeTitle());
+        writeString(generator, EMAIL_KEY, employee.getEmployeeEmail());
+        generator.writeEndObject();
+    }
+
+    private static List<Employee> readEmployees(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        final var employees = new ArrayList<Employee>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            employees.add(readEmployee(parser));
+        }
+        return employees;
+    }
+
+    private static ApiResponse<?> readResponse(JsonParser parser, boolean list) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_OBJECT);
+        final var response = new ApiResponse<Object>();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case DATA -> response.setData(list ? readEmployees(parser) : readEmployee(parser));
+                case STATUS -> response.setStatus(readString(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return response;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string but found " + token);
+        }
+        return parser.getValueAsString();
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, "Expected an integer but found " + token);
+        }
+        if (parser.getNumberType() != JsonParser.NumberType.INT) {
+            throw new JsonParseException(parser, "Integer out of range: " + parser.getText());
+        }
+        return parser.getIntValue();
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString key, String value) throws IOException {
+        generator.writeFieldName(key);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, SerializedString key, Integer value)
+            throws IOException {
+        generator.writeFieldName(key);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.currentToken());
+        }
+    }
+
+    private enum Shape {
+        EMPLOYEE,
+        EMPLOYEES,
+        EMPLOYEE_RESPONSE,
+        EMPLOYEES_RESPONSE;
+
+        static Shape of(Type type) {
+            return of(ResolvableType.forType(type));
+        }
+
+        private static Shape of(ResolvableType resolved) {
+            if (resolved.toClass() == ApiResponse.class) {
+                final var data = of(resolved.getGeneric(0));
+                if (data == EMPLOYEE) {
+                    return EMPLOYEE_RESPONSE;
+                }
+                return data == EMPLOYEES ? EMPLOYEES_RESPONSE : null;
+            }
+            if (resolved.toClass() == Employee.class) {
+                return EMPLOYEE;
+            }
+            if (resolved.toClass().isAssignableFrom(ArrayList.class)
+                    && resolved.getGeneric(0).toClass() == Employee.class) {
+                return EMPLOYEES;
+            }
+            return null;
+        }
+    }
+}
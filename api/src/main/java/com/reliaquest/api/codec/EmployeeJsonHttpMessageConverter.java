@@ -0,0 +1,65 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Reads the employee bodies {@link EmployeeJsonCodec} handles in one {@link WireFormat}, writes them when that format
+ * is JSON, and declines every other type, leaving it to the Jackson converter behind it. Chosen by the declared type,
+ * so {@code List<Employee>} qualifies and {@code List<String>} does not.
+ */
+public class EmployeeJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final WireFormat format;
+
+    public EmployeeJsonHttpMessageConverter() {
+        this(WireFormat.JSON);
+    }
+
+    public EmployeeJsonHttpMessageConverter(WireFormat format) {
+        super(format.getMediaTypes());
+        this.format = format;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmployeeJsonCodec.canRead(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return EmployeeJsonCodec.canRead(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return format == WireFormat.JSON
+                && EmployeeJsonCodec.canWrite(type != null ? type : clazz)
+                && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return EmployeeJsonCodec.read(format.getFactory(), inputMessage.getBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        EmployeeJsonCodec.write(outputMessage.getBody(), value, type != null ? type : value.getClass());
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * Body formats for the upstream's employee responses, chosen with {@code employee.client.wire-format}. The mock
+ * server answers JSON unless a request names Smile, Jackson's binary JSON, in {@code Accept}; Smile bodies are smaller
+ * and decode faster, JSON ones stay readable.
+ */
+@Getter
+public enum WireFormat {
+    JSON(EmployeeJsonCodec.FACTORY, MediaType.APPLICATION_JSON, new MediaType("application", "*+json")),
+    SMILE(EmployeeJsonCodec.SMILE_FACTORY, new MediaType("application", "x-jackson-smile"));
+
+    private final JsonFactory factory;
+    private final MediaType mediaType;
+    private final MediaType[] mediaTypes;
+
+    WireFormat(JsonFactory factory, MediaType... mediaTypes) {
+        this.factory = factory;
+        this.mediaType = mediaTypes[0];
+        this.mediaTypes = mediaTypes;
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.CoalescingEmployeeClient;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.MeteredEmployeeClient;
+import com.reliaquest.api.client.MeteredJsonDecoder;
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.client.ThrottlingEmployeeClient;
+import com.reliaquest.api.client.WebClientEmployeeClient;
+import com.reliaquest.api.codec.WireFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Picks the upstream {@link EmployeeClient} from {@code employee.client.mode}: {@code blocking} (default) uses the
+ * pooled {@link RestTemplate}, {@code reactive} uses a {@link WebClient} on Reactor Netty sized by the same
+ * {@code employee.http.*} settings. Either one is wrapped in a {@link ThrottlingEmployeeClient} unless
+ * {@code employee.throttle.enabled} is {@code false}, and then in a {@link CoalescingEmployeeClient} so identical
+ * concurrent reads take a single slot from the throttle. Underneath them all a {@link MeteredEmployeeClient} times the
+ * calls that actually go upstream, and both decorators publish their counters to the {@link MeterRegistry}.
+ * <p>
+ * {@code employee.client.wire-format} picks the body format asked of the upstream: {@code json} (default) or
+ * {@code smile}, Jackson's binary JSON, which the mock server sends when named in {@code Accept}.
+ */
+@Configuration
+@EnableConfigurationProperties(ThrottleProperties.class)
+public class EmployeeClientConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.client.mode", havingValue = "blocking", matchIfMissing = true)
+    public EmployeeClient restTemplateEmployeeClient(
+            RestTemplate restTemplate,
+            ThrottleProperties throttle,
+            MeterRegistry meterRegistry,
+            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl) {
+        return decorate(new RestTemplateEmployeeClient(restTemplate, baseUrl), throttle, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+    public EmployeeClient webClientEmployeeClient(
+            WebClient.Builder webClientBuilder,
+            HttpClientProperties properties,
+            ThrottleProperties throttle,
+            MeterRegistry meterRegistry,
+            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
+            @Value("${employee.client.wire-format:json}") WireFormat wireFormat) {
+        final var connectionProvider = ConnectionProvider.builder("employee-api")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireTimeout(properties.connectionRequestTimeout())
+                .maxIdleTime(properties.idleEviction())
+                .maxLifeTime(properties.keepAlive())
+                .evictInBackground(properties.idleEviction())
+                .build();
+        final var httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.readTimeout());
+        final var builder = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // The full roster is decoded in one piece, so lift the default 256KB buffering limit.
+                .codecs(codecs -> {
+                    final var decoder = new MeteredJsonDecoder(meterRegistry);
+                    decoder.setMaxInMemorySize(-1);
+                    codecs.defaultCodecs().jackson2JsonDecoder(decoder);
+                    if (wireFormat == WireFormat.SMILE) {
+                        final var smileDecoder = MeteredJsonDecoder.smile(meterRegistry);
+                        smileDecoder.setMaxInMemorySize(-1);
+                        codecs.defaultCodecs().jackson2SmileDecoder(smileDecoder);
+                    }
+                    codecs.defaultCodecs().maxInMemorySize(-1);
+                });
+        if (wireFormat == WireFormat.SMILE) {
+            // Requests without their own Accept, such as the roster, ask for Smile and fall back to JSON.
+            builder.defaultHeader(
+                    HttpHeaders.ACCEPT,
+                    WireFormat.SMILE.getMediaType().toString(),
+                    WireFormat.JSON.getMediaType().toString());
+        }
+        final var webClient = builder.build();
+        return decorate(new WebClientEmployeeClient(webClient), throttle, meterRegistry);
+    }
+
+    private static EmployeeClient decorate(
+            EmployeeClient client, ThrottleProperties throttle, MeterRegistry meterRegistry) {
+        EmployeeClient upstream = new MeteredEmployeeClient(client, meterRegistry);
+        if (throttle.enabled()) {
+            final var throttling = new ThrottlingEmployeeClient(
+                    upstream,
+                    throttle.maxConcurrent(),
+                    throttle.queueTimeout(),
+                    throttle.initialBackoff(),
+                    throttle.maxBackoff());
+            throttling.bindTo(meterRegistry);
+            upstream = throttling;
+        }
+        final var coalescing = new CoalescingEmployeeClient(upstream);
+        coalescing.bindTo(meterRegistry);
+        return coalescing;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning for the pooled HTTP client used to call the mock employee API.
+ *
+ * @param maxConnections upper bound of pooled connections across all routes
+ * @param maxConnectionsPerRoute upper bound of pooled connections to a single host
+ * @param connectTimeout time allowed to establish a TCP connection
+ * @param readTimeout time allowed between data packets while waiting for a response
+ * @param connectionRequestTimeout time a caller may wait for a free pooled connection
+ * @param idleEviction pooled connections idle for longer than this are closed in the background
+ * @param keepAlive longest time a connection is kept for reuse, unless the server advertises a shorter one
+ */
+@ConfigurationProperties("employee.http")
+public record HttpClientProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("50") int maxConnectionsPerRoute,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("2s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration idleEviction,
+        @DefaultValue("60s") Duration keepAlive) {}
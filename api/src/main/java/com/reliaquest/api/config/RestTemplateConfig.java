@@ -1,14 +1,83 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.MeteredJsonHttpMessageConverter;
+import com.reliaquest.api.codec.WireFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestTemplateConfig {
 
+    /*
+     * Pooled HTTP/1.1 client so upstream calls reuse keep-alive connections instead of opening one per request.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient upstreamHttpClient(HttpClientProperties properties) {
+        final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                        .build())
+                .build();
+        final var keepAlive = TimeValue.of(properties.keepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    final var advertised =
+                            DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(advertised) && advertised.compareTo(keepAlive) < 0
+                            ? advertised
+                            : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.idleEviction()))
+                .build();
+    }
+
+    /*
+     * JSON bodies go through a converter that records their size and decode time for the upstream metrics. Spring's
+     * own Smile converter would put Smile in every request's Accept, so it is dropped and a metered one goes ahead of
+     * JSON only when employee.client.wire-format asks for Smile.
+     */
+    @Bean
+    public RestTemplate restTemplate(
+            CloseableHttpClient upstreamHttpClient,
+            MeterRegistry meterRegistry,
+            @Value("${employee.client.wire-format:json}") WireFormat wireFormat) {
+        final var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(upstreamHttpClient));
+        final var converters = restTemplate.getMessageConverters();
+        converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.set(i, new MeteredJsonHttpMessageConverter(meterRegistry));
+                if (wireFormat == WireFormat.SMILE) {
+                    converters.add(i, MeteredJsonHttpMessageConverter.smile(meterRegistry));
+                }
+                break;
+            }
+        }
+        return restTemplate;
     }
 }
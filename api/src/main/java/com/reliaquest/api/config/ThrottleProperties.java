@@ -0,0 +1,24 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Client-side rate governing of calls to the mock employee API, see
+ * {@link com.reliaquest.api.client.ThrottlingEmployeeClient}.
+ *
+ * @param enabled whether upstream calls go through the governor at all
+ * @param maxConcurrent upper bound of concurrent upstream calls, whatever budget of calls has been learned
+ * @param queueTimeout time a caller may wait for a call slot before being turned away
+ * @param initialBackoff time to back off after the first 429 when the upstream sends no {@code Retry-After}
+ * @param maxBackoff upper bound of the backoff, which doubles every time a probe call is throttled again and is then
+ *     kept as the length of the upstream's window
+ */
+@ConfigurationProperties("employee.throttle")
+public record ThrottleProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("16") int maxConcurrent,
+        @DefaultValue("2s") Duration queueTimeout,
+        @DefaultValue("5s") Duration initialBackoff,
+        @DefaultValue("90s") Duration maxBackoff) {}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.codec.EmployeeJsonHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /*
+     * Ahead of Jackson, so employee responses skip databind; it declines everything else.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new EmployeeJsonHttpMessageConverter());
+    }
+}
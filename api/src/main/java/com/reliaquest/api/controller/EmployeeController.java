@@ -1,17 +1,28 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.reliaquest.api.client.UpstreamThrottledException;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDeletion;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
-import java.util.Comparator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -19,32 +30,63 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
+    private static final int TOP_EARNER_LIMIT = 10;
+
     private final EmployeeService employeeService;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("Request to get all employees");
         try {
+            // Tag first: a roster that changes in between is then sent with an older tag, which only costs a refetch
+            String etag = employeeService.getRosterETag();
             List<Employee> employees = employeeService.getAllEmployees();
-            return ResponseEntity.ok(employees);
+            if (etag == null) {
+                return ResponseEntity.ok(employees);
+            }
+            // Spring answers 304 without writing the body when the request's If-None-Match matches the tag
+            return ResponseEntity.ok().eTag(etag).body(employees);
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error getting all employees: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Relays the roster from the mock API as newline-delimited JSON, one employee per line, writing each employee as
+     * soon as it is read so neither the upstream response nor this one is ever held in memory. Bypasses the roster
+     * cache. Failures after the first line has been sent can only cut the stream short.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        log.info("Request to export all employees");
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = EmployeeJsonCodec.createGenerator(out)) {
+                employeeService.streamAllEmployees(employee -> {
+                    try {
+                        EmployeeJsonCodec.writeEmployee(generator, employee);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("Request to search employees by name: {}", searchString);
         try {
-            List<Employee> allEmployees = employeeService.getAllEmployees();
-            List<Employee> filteredEmployees = allEmployees.stream()
-                    .filter(employee -> employee.getEmployeeName() != null
-                            && employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                    .collect(Collectors.toList());
+            List<Employee> filteredEmployees = employeeService.searchEmployeesByName(searchString);
 
             log.info("Found {} employees matching search term: {}", filteredEmployees.size(), searchString);
             return ResponseEntity.ok(filteredEmployees);
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error searching employees by name {}: {}", searchString, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -61,6 +103,8 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
             } else {
                 return ResponseEntity.notFound().build();
             }
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error getting employee by id {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -71,15 +115,12 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("Request to get highest salary of employees");
         try {
-            List<Employee> employees = employeeService.getAllEmployees();
-            Integer highestSalary = employees.stream()
-                    .filter(employee -> employee.getEmployeeSalary() != null)
-                    .mapToInt(Employee::getEmployeeSalary)
-                    .max()
-                    .orElse(0);
+            Integer highestSalary = employeeService.getHighestSalary();
 
             log.info("Highest salary found: {}", highestSalary);
             return ResponseEntity.ok(highestSalary);
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error getting highest salary: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -90,16 +131,12 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("Request to get top 10 highest earning employee names");
         try {
-            List<Employee> employees = employeeService.getAllEmployees();
-            List<String> topTenNames = employees.stream()
-                    .filter(employee -> employee.getEmployeeSalary() != null)
-                    .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
-                    .limit(10)
-                    .map(Employee::getEmployeeName)
-                    .collect(Collectors.toList());
+            List<String> topTenNames = employeeService.getTopEarnerNames(TOP_EARNER_LIMIT);
 
             log.info("Found top {} highest earning employees", topTenNames.size());
             return ResponseEntity.ok(topTenNames);
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error getting top 10 highest earning employees: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -110,19 +147,7 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<Employee> createEmployee(EmployeeInput employeeInput) {
         log.info("Request to create employee: {}", employeeInput.getName());
         try {
-            // Validate input
-            if (employeeInput.getName() == null
-                    || employeeInput.getName().trim().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            if (employeeInput.getSalary() == null || employeeInput.getSalary() <= 0) {
-                return ResponseEntity.badRequest().build();
-            }
-            if (employeeInput.getAge() == null || employeeInput.getAge() < 16 || employeeInput.getAge() > 75) {
-                return ResponseEntity.badRequest().build();
-            }
-            if (employeeInput.getTitle() == null
-                    || employeeInput.getTitle().trim().isEmpty()) {
+            if (!isValid(employeeInput)) {
                 return ResponseEntity.badRequest().build();
             }
 
@@ -132,6 +157,8 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
             } else {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
             }
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
             log.error("Error creating employee {}: {}", employeeInput.getName(), e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -142,24 +169,89 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<String> deleteEmployeeById(String id) {
         log.info("Request to delete employee by id: {}", id);
         try {
-            // First get the employee to find their name
-            Employee employee = employeeService.getEmployeeById(id);
-            if (employee == null) {
+            // Delete by id upstream, so a namesake can never be deleted in this employee's place
+            Employee deletedEmployee = employeeService.deleteEmployeeById(id);
+            if (deletedEmployee == null) {
                 return ResponseEntity.notFound().build();
             }
+            return ResponseEntity.ok(deletedEmployee.getEmployeeName());
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
+        } catch (Exception e) {
+            log.error("Error deleting employee by id {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
-            String employeeName = employee.getEmployeeName();
-            boolean deleted = employeeService.deleteEmployeeByName(employeeName);
-
-            if (deleted) {
-                log.info("Successfully deleted employee: {}", employeeName);
-                return ResponseEntity.ok(employeeName);
-            } else {
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    /**
+     * Creates all employees with a single upstream call, which counts once against the mock API's rate limit. Every
+     * input is validated first; one invalid input rejects the whole batch. When upstream creates only some of them,
+     * the answer is 207 with the employees that were created, so the caller knows which ones to retry.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Employee>> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        log.info("Request to create {} employees", employeeInputs == null ? 0 : employeeInputs.size());
+        if (employeeInputs == null || !employeeInputs.stream().allMatch(EmployeeController::isValid)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<Employee> createdEmployees = employeeService.createEmployees(employeeInputs);
+            if (createdEmployees.size() != employeeInputs.size()) {
+                log.warn("Created {} of {} employees", createdEmployees.size(), employeeInputs.size());
+                return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(createdEmployees);
             }
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployees);
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
         } catch (Exception e) {
-            log.error("Error deleting employee by id {}: {}", id, e.getMessage());
+            log.error("Error creating {} employees: {}", employeeInputs.size(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Deletes the employees with the given ids with a single upstream call, reporting the outcome for each id.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<EmployeeDeletion>> deleteEmployeesById(@RequestBody List<String> ids) {
+        log.info("Request to delete {} employees", ids == null ? 0 : ids.size());
+        if (ids == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeService.deleteEmployeesById(ids));
+        } catch (UpstreamThrottledException e) {
+            return throttled(e);
+        } catch (Exception e) {
+            log.error("Error deleting {} employees: {}", ids.size(), e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    private static boolean isValid(EmployeeInput employeeInput) {
+        return employeeInput != null
+                && employeeInput.getName() != null
+                && !employeeInput.getName().trim().isEmpty()
+                && employeeInput.getName().length() <= EmployeeInput.MAX_TEXT_LENGTH
+                && employeeInput.getSalary() != null
+                && employeeInput.getSalary() > 0
+                && employeeInput.getAge() != null
+                && employeeInput.getAge() >= 16
+                && employeeInput.getAge() <= 75
+                && employeeInput.getTitle() != null
+                && !employeeInput.getTitle().trim().isEmpty()
+                && employeeInput.getTitle().length() <= EmployeeInput.MAX_TEXT_LENGTH;
+    }
+
+    /**
+     * The mock employee API is rate limiting us and nothing cached could answer instead; tell the client when to come
+     * back rather than reporting a server error.
+     */
+    private static <T> ResponseEntity<T> throttled(UpstreamThrottledException e) {
+        log.warn("Upstream throttled: {}", e.getMessage());
+        long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .build();
+    }
 }
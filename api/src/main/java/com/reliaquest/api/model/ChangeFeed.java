@@ -0,0 +1,15 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeed {
+    private String epoch;
+    private long latest;
+    private List<EmployeeChange> changes;
+}
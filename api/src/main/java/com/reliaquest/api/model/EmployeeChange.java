@@ -0,0 +1,19 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+    private long sequence;
+    private Type type;
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
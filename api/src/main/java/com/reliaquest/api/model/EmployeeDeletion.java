@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of deleting one employee of a batch: the id asked for, the name of the employee deleted ({@code null} when
+ * none was) and whether an employee was deleted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDeletion {
+    private String id;
+    private String name;
+    private boolean deleted;
+}
@@ -8,6 +8,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class EmployeeInput {
+
+    /**
+     * Longest name or title accepted, the same limit the mock employee API enforces.
+     */
+    public static final int MAX_TEXT_LENGTH = 255;
+
     private String name;
     private Integer salary;
     private Integer age;
@@ -0,0 +1,236 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import lombok.NonNull;
+
+/**
+ * Immutable columnar copy of the roster's analytic fields, one row per employee in roster order. Salaries and ages
+ * are {@code int} columns, titles are codes into a dictionary of the distinct titles, and names are ranges of one
+ * shared {@code char} buffer, so a scan reads a few primitive arrays instead of following and unboxing each
+ * {@link Employee}'s fields.
+ * <p>
+ * Missing values are tracked in a bit set; missing salaries and ages also read as {@link #NO_VALUE} in their columns,
+ * so a scan that cannot meet that value need not consult the bit set. {@link #with(Employee)} and
+ * {@link #without(int)} copy the columns, as the roster list they mirror is copied.
+ */
+public final class EmployeeRoster {
+
+    /**
+     * Column value of a missing salary or age.
+     */
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int NO_TITLE = -1;
+
+    private final int size;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final char[] names;
+    private final int[] nameOffsets;
+    private final BitSet missing;
+
+    private EmployeeRoster(
+            int size,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titles,
+            char[] names,
+            int[] nameOffsets,
+            BitSet missing) {
+        this.size = size;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.missing = missing;
+    }
+
+    public static EmployeeRoster of(@NonNull List<Employee> employees) {
+        final int size = employees.size();
+        final var salaries = new int[size];
+        final var ages = new int[size];
+        final var titleCodes = new int[size];
+        final var nameOffsets = new int[size + 1];
+        final var missing = new BitSet();
+        final var codes = new HashMap<String, Integer>();
+        int nameLength = 0;
+        for (final var employee : employees) {
+            if (employee.getEmployeeName() != null) {
+                nameLength += employee.getEmployeeName().length();
+            }
+        }
+        final var names = new char[nameLength];
+        for (int row = 0; row < size; row++) {
+            final var employee = employees.get(row);
+            salaries[row] = column(employee.getEmployeeSalary(), missing, salaryBit(row));
+            ages[row] = column(employee.getEmployeeAge(), missing, ageBit(row));
+            final var title = employee.getEmployeeTitle();
+            titleCodes[row] = title == null ? NO_TITLE : codes.computeIfAbsent(title, key -> codes.size());
+            nameOffsets[row + 1] = copyName(employee.getEmployeeName(), names, nameOffsets[row], missing, row);
+        }
+        final var titles = new String[codes.size()];
+        codes.forEach((title, code) -> titles[code] = title);
+        return new EmployeeRoster(size, salaries, ages, titleCodes, titles, names, nameOffsets, missing);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the row's salary, or {@link #NO_VALUE} when it has none
+     */
+    public int salary(int row) {
+        return salaries[checkRow(row)];
+    }
+
+    public boolean hasSalary(int row) {
+        return !missing.get(salaryBit(checkRow(row)));
+    }
+
+    /**
+     * @return the row's age, or {@link #NO_VALUE} when it has none
+     */
+    public int age(int row) {
+        return ages[checkRow(row)];
+    }
+
+    public boolean hasAge(int row) {
+        return !missing.get(ageBit(checkRow(row)));
+    }
+
+    public String title(int row) {
+        final int code = titleCodes[checkRow(row)];
+        return code == NO_TITLE ? null : titles[code];
+    }
+
+    /**
+     * @return the row's name, copied out of the shared buffer, or {@code null} when it has none
+     */
+    public String name(int row) {
+        if (missing.get(nameBit(checkRow(row)))) {
+            return null;
+        }
+        return new String(names, nameOffsets[row], nameOffsets[row + 1] - nameOffsets[row]);
+    }
+
+    /**
+     * Appends a row. A title already in the dictionary is found by a linear search, which the column copies outweigh.
+     */
+    public EmployeeRoster with(@NonNull Employee employee) {
+        final var missing = (BitSet) this.missing.clone();
+        final var salaries = Arrays.copyOf(this.salaries, size + 1);
+        final var ages = Arrays.copyOf(this.ages, size + 1);
+        salaries[size] = column(employee.getEmployeeSalary(), missing, salaryBit(size));
+        ages[size] = column(employee.getEmployeeAge(), missing, ageBit(size));
+
+        final var title = employee.getEmployeeTitle();
+        var titles = this.titles;
+        int code = NO_TITLE;
+        if (title != null) {
+            code = Arrays.asList(titles).indexOf(title);
+            if (code < 0) {
+                code = titles.length;
+                titles = Arrays.copyOf(titles, code + 1);
+                titles[code] = title;
+            }
+        }
+        final var titleCodes = Arrays.copyOf(this.titleCodes, size + 1);
+        titleCodes[size] = code;
+
+        final var name = employee.getEmployeeName();
+        final int nameStart = nameOffsets[size];
+        final var names = Arrays.copyOf(this.names, nameStart + (name == null ? 0 : name.length()));
+        final var nameOffsets = Arrays.copyOf(this.nameOffsets, size + 2);
+        nameOffsets[size + 1] = copyName(name, names, nameStart, missing, size);
+        return new EmployeeRoster(size + 1, salaries, ages, titleCodes, titles, names, nameOffsets, missing);
+    }
+
+    /**
+     * Removes a row; the rows after it move up by one. Titles left unused stay in the dictionary until the next
+     * rebuild.
+     */
+    public EmployeeRoster without(int row) {
+        checkRow(row);
+        final int tail = size - row - 1;
+        final var salaries = remove(this.salaries, row);
+        final var ages = remove(this.ages, row);
+        final var titleCodes = remove(this.titleCodes, row);
+
+        final int nameStart = nameOffsets[row];
+        final int nameLength = nameOffsets[row + 1] - nameStart;
+        final var names = new char[this.names.length - nameLength];
+        System.arraycopy(this.names, 0, names, 0, nameStart);
+        System.arraycopy(this.names, nameStart + nameLength, names, nameStart, names.length - nameStart);
+        final var nameOffsets = new int[size];
+        System.arraycopy(this.nameOffsets, 0, nameOffsets, 0, row + 1);
+        for (int i = 0; i < tail; i++) {
+            nameOffsets[row + 1 + i] = this.nameOffsets[row + 2 + i] - nameLength;
+        }
+
+        final var missing = new BitSet();
+        for (int bit = this.missing.nextSetBit(0); bit >= 0; bit = this.missing.nextSetBit(bit + 1)) {
+            final int bitRow = bit / 3;
+            if (bitRow != row) {
+                missing.set(bitRow < row ? bit : bit - 3);
+            }
+        }
+        return new EmployeeRoster(size - 1, salaries, ages, titleCodes, titles, names, nameOffsets, missing);
+    }
+
+    private int checkRow(int row) {
+        return Objects.checkIndex(row, size);
+    }
+
+    private static int column(Integer value, BitSet missing, int bit) {
+        if (value == null) {
+            missing.set(bit);
+            return NO_VALUE;
+        }
+        return value;
+    }
+
+    /**
+     * @return the offset just past the copied name
+     */
+    private static int copyName(String name, char[] names, int start, BitSet missing, int row) {
+        if (name == null) {
+            missing.set(nameBit(row));
+            return start;
+        }
+        name.getChars(0, name.length(), names, start);
+        return start + name.length();
+    }
+
+    private static int[] remove(int[] column, int row) {
+        final var removed = new int[column.length - 1];
+        System.arraycopy(column, 0, removed, 0, row);
+        System.arraycopy(column, row + 1, removed, row, removed.length - row);
+        return removed;
+    }
+
+    /*
+     * Three bits per row, salary, age and name, so removing a row shifts later bits by a fixed amount.
+     */
+    private static int salaryBit(int row) {
+        return row * 3;
+    }
+
+    private static int ageBit(int row) {
+        return row * 3 + 1;
+    }
+
+    private static int nameBit(int row) {
+        return row * 3 + 2;
+    }
+}
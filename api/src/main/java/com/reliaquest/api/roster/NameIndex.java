@@ -0,0 +1,148 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Immutable trigram index over employee names for case-insensitive substring search.
+ * <p>
+ * Each name is lowercased once when it is indexed. A query of three or more characters only verifies the employees
+ * listed under its rarest trigram; shorter queries fall back to scanning the lowercased names. Posting lists keep
+ * roster order, so results come back in the same order as a full scan. Large candidate lists are verified in
+ * parallel by {@link ParallelScan}.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final Entry[] entries;
+    private final Map<Long, Entry[]> postings;
+
+    private NameIndex(Entry[] entries, Map<Long, Entry[]> postings) {
+        this.entries = entries;
+        this.postings = postings;
+    }
+
+    public static NameIndex of(@NonNull List<Employee> employees) {
+        final var entries = new ArrayList<Entry>(employees.size());
+        final var builder = new HashMap<Long, List<Entry>>();
+        for (final var employee : employees) {
+            if (employee.getEmployeeName() == null) {
+                continue;
+            }
+            final var entry = Entry.of(employee);
+            entries.add(entry);
+            for (final long gram : grams(entry.lowerName())) {
+                builder.computeIfAbsent(gram, ignored -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        final var postings = new HashMap<Long, Entry[]>(builder.size() * 4 / 3 + 1);
+        builder.forEach((gram, list) -> postings.put(gram, list.toArray(Entry[]::new)));
+        return new NameIndex(entries.toArray(Entry[]::new), postings);
+    }
+
+    /**
+     * @return employees whose name contains {@code searchString} ignoring case, in roster order
+     */
+    public List<Employee> search(@NonNull String searchString) {
+        final var query = searchString.toLowerCase();
+        final var candidates = query.length() < GRAM ? entries : rarestPosting(query);
+        return ParallelScan.filter(candidates, candidate -> candidate.lowerName().contains(query), Entry::employee);
+    }
+
+    public NameIndex with(@NonNull Employee employee) {
+        if (employee.getEmployeeName() == null) {
+            return this;
+        }
+        final var entry = Entry.of(employee);
+        final var updatedPostings = new HashMap<>(postings);
+        for (final long gram : grams(entry.lowerName())) {
+            final var posting = postings.get(gram);
+            if (posting == null) {
+                updatedPostings.put(gram, new Entry[] {entry});
+            } else {
+                final var appended = Arrays.copyOf(posting, posting.length + 1);
+                appended[posting.length] = entry;
+                updatedPostings.put(gram, appended);
+            }
+        }
+        final var updatedEntries = Arrays.copyOf(entries, entries.length + 1);
+        updatedEntries[entries.length] = entry;
+        return new NameIndex(updatedEntries, updatedPostings);
+    }
+
+    public NameIndex without(@NonNull Employee employee) {
+        final int position = indexOf(entries, employee);
+        if (position < 0) {
+            return this;
+        }
+        final var updatedPostings = new HashMap<>(postings);
+        for (final long gram : grams(entries[position].lowerName())) {
+            final var posting = postings.get(gram);
+            final var remaining = remove(posting, indexOf(posting, employee));
+            if (remaining.length == 0) {
+                updatedPostings.remove(gram);
+            } else {
+                updatedPostings.put(gram, remaining);
+            }
+        }
+        return new NameIndex(remove(entries, position), updatedPostings);
+    }
+
+    private Entry[] rarestPosting(String query) {
+        Entry[] rarest = null;
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            final var posting = postings.get(gram(query, i));
+            if (posting == null) {
+                return NO_ENTRIES;
+            }
+            if (rarest == null || posting.length < rarest.length) {
+                rarest = posting;
+            }
+        }
+        return rarest;
+    }
+
+    private static int indexOf(Entry[] entries, Employee employee) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].employee() == employee) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Entry[] remove(Entry[] entries, int position) {
+        final var updated = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, updated, 0, position);
+        System.arraycopy(entries, position + 1, updated, position, entries.length - position - 1);
+        return updated;
+    }
+
+    private static long[] grams(String lowerName) {
+        final int count = Math.max(lowerName.length() - GRAM + 1, 0);
+        final var grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = gram(lowerName, i);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private record Entry(Employee employee, String lowerName) {
+
+        static Entry of(Employee employee) {
+            return new Entry(employee, employee.getEmployeeName().toLowerCase());
+        }
+    }
+}
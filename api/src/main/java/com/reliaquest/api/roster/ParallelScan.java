@@ -0,0 +1,158 @@
+package com.reliaquest.api.roster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fork-join versions of the linear passes over a roster, for rosters large enough that one core per request leaves
+ * the rest idle. Work is split into contiguous chunks, so results keep roster order, and below
+ * {@link #SEQUENTIAL_THRESHOLD} elements a pass simply runs on the calling thread, as forking costs more than it saves.
+ * <p>
+ * The passes run in their own pool of one worker per core rather than the common pool, so a burst of large searches
+ * cannot starve parallel streams and {@code CompletableFuture} callbacks elsewhere in the api, nor be starved by them.
+ */
+final class ParallelScan {
+
+    /**
+     * Elements below which a pass stays sequential; also the smallest chunk a pass is split into. A chunk this size
+     * takes a few hundred microseconds to scan, well above the cost of forking it.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                final var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                worker.setName("roster-scan-" + worker.getPoolIndex());
+                return worker;
+            },
+            null,
+            false);
+
+    private ParallelScan() {}
+
+    /**
+     * @return {@code mapper} applied to the elements matching {@code predicate}, in order
+     */
+    static <T, R> List<R> filter(T[] elements, Predicate<? super T> predicate, Function<? super T, R> mapper) {
+        if (elements.length < SEQUENTIAL_THRESHOLD) {
+            return filter(elements, 0, elements.length, predicate, mapper);
+        }
+        return POOL.invoke(new Filter<>(elements, 0, elements.length, chunkSize(elements.length), predicate, mapper));
+    }
+
+    /**
+     * Sorts the first {@code count} keys ascending: chunks are sorted in parallel and then merged pairwise.
+     */
+    static void sort(long[] keys, int count) {
+        if (count < SEQUENTIAL_THRESHOLD) {
+            Arrays.sort(keys, 0, count);
+            return;
+        }
+        POOL.invoke(new Sort(keys, new long[count], 0, count, chunkSize(count)));
+    }
+
+    /*
+     * Four chunks per worker, so a worker that finishes early can steal from one that drew slower elements.
+     */
+    private static int chunkSize(int length) {
+        return Math.max(SEQUENTIAL_THRESHOLD, length / (POOL.getParallelism() * 4));
+    }
+
+    private static <T, R> List<R> filter(
+            T[] elements, int from, int to, Predicate<? super T> predicate, Function<? super T, R> mapper) {
+        final var matches = new ArrayList<R>();
+        for (int i = from; i < to; i++) {
+            if (predicate.test(elements[i])) {
+                matches.add(mapper.apply(elements[i]));
+            }
+        }
+        return matches;
+    }
+
+    private static final class Filter<T, R> extends RecursiveTask<List<R>> {
+
+        private final T[] elements;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Predicate<? super T> predicate;
+        private final Function<? super T, R> mapper;
+
+        Filter(
+                T[] elements,
+                int from,
+                int to,
+                int chunkSize,
+                Predicate<? super T> predicate,
+                Function<? super T, R> mapper) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.predicate = predicate;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (to - from <= chunkSize) {
+                return filter(elements, from, to, predicate, mapper);
+            }
+            final int mid = (from + to) >>> 1;
+            final var left = new Filter<>(elements, from, mid, chunkSize, predicate, mapper);
+            left.fork();
+            final var right = new Filter<>(elements, mid, to, chunkSize, predicate, mapper).compute();
+            final var matches = left.join();
+            matches.addAll(right);
+            return matches;
+        }
+    }
+
+    /**
+     * Merge sort whose leaves are sorted sequentially; {@code buffer} holds the left half of each merge.
+     */
+    private static final class Sort extends RecursiveAction {
+
+        private final long[] keys;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        Sort(long[] keys, long[] buffer, int from, int to, int chunkSize) {
+            this.keys = keys;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                Arrays.sort(keys, from, to);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(new Sort(keys, buffer, from, mid, chunkSize), new Sort(keys, buffer, mid, to, chunkSize));
+            if (keys[mid - 1] <= keys[mid]) {
+                return;
+            }
+            System.arraycopy(keys, from, buffer, from, mid - from);
+            int left = from;
+            int right = mid;
+            int out = from;
+            while (left < mid && right < to) {
+                keys[out++] = buffer[left] <= keys[right] ? buffer[left++] : keys[right++];
+            }
+            System.arraycopy(buffer, left, keys, out, mid - left);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache for the employee roster fetched from the mock employee API.
+ * <p>
+ * A cold cache lets exactly one caller load the roster while the others wait for it. Once a snapshot exists, an
+ * expired snapshot is refreshed by a single caller and everyone else keeps getting the stale one until the refresh
+ * has been published. If that refresh fails, the stale snapshot keeps being served and the next read past the TTL tries
+ * again; only a cold cache surfaces loader failures.
+ * <p>
+ * Writes made through the api are folded into the cached snapshot with {@link #apply(UnaryOperator)} so the
+ * derived aggregates stay current without another upstream round-trip.
+ * <p>
+ * Every snapshot the cache hands out is stamped with a version that increases whenever its content may have changed.
+ * A refresh whose loader reports the roster unchanged keeps the current snapshot and its version.
+ */
+@Slf4j
+public class RosterCache {
+
+    private final RosterLoader loader;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Entry entry;
+    private long generation;
+    private long version;
+
+    public RosterCache(@NonNull Supplier<List<Employee>> loader, @NonNull Duration ttl) {
+        this(current -> RosterSnapshot.of(loader.get()), ttl, Clock.systemUTC());
+    }
+
+    public RosterCache(@NonNull RosterLoader loader, @NonNull Duration ttl) {
+        this(loader, ttl, Clock.systemUTC());
+    }
+
+    RosterCache(@NonNull Supplier<List<Employee>> loader, @NonNull Duration ttl, @NonNull Clock clock) {
+        this(current -> RosterSnapshot.of(loader.get()), ttl, clock);
+    }
+
+    public RosterCache(@NonNull RosterLoader loader, @NonNull Duration ttl, @NonNull Clock clock) {
+        this.loader = loader;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public RosterSnapshot get() {
+        final var current = entry;
+        if (current != null && current.isFresh(clock.instant())) {
+            return current.snapshot();
+        }
+
+        if (current == null) {
+            loadLock.lock();
+            try {
+                final var latest = entry;
+                if (latest != null && latest.isFresh(clock.instant())) {
+                    return latest.snapshot();
+                }
+                return load();
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        if (loadLock.tryLock()) {
+            try {
+                final var latest = entry;
+                if (latest != null && latest != current && latest.isFresh(clock.instant())) {
+                    return latest.snapshot();
+                }
+                return load();
+            } catch (RuntimeException e) {
+                log.warn("Roster refresh failed, serving stale snapshot: {}", e.getMessage());
+                return current.snapshot();
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        log.debug("Roster refresh already in progress, serving stale snapshot");
+        return current.snapshot();
+    }
+
+    /**
+     * @return the cached snapshot, however old, without loading one
+     */
+    public Optional<RosterSnapshot> peek() {
+        final var current = entry;
+        return current == null ? Optional.empty() : Optional.of(current.snapshot());
+    }
+
+    /**
+     * Applies a local change to the cached snapshot, if there is one. A load that is already in flight may predate the
+     * change, so its result is not published.
+     */
+    public void apply(@NonNull UnaryOperator<RosterSnapshot> change) {
+        synchronized (this) {
+            generation++;
+            final var current = entry;
+            if (current != null) {
+                final var changed = change.apply(current.snapshot());
+                if (changed != current.snapshot()) {
+                    entry = new Entry(changed.withVersion(++version), current.expiresAt());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the cached roster so the next read goes upstream. A load that is already in flight will still hand its
+     * result to its own caller, but it is not published.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            generation++;
+            entry = null;
+        }
+        log.debug("Roster cache invalidated");
+    }
+
+    private RosterSnapshot load() {
+        final long loadGeneration;
+        final RosterSnapshot current;
+        synchronized (this) {
+            loadGeneration = generation;
+            current = entry == null ? null : entry.snapshot();
+        }
+
+        final var loaded = loader.load(current);
+        synchronized (this) {
+            final var snapshot = loaded == current ? current : loaded.withVersion(++version);
+            if (loadGeneration == generation) {
+                entry = new Entry(snapshot, clock.instant().plus(ttl));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Fetches the roster for the cache.
+     */
+    @FunctionalInterface
+    public interface RosterLoader {
+
+        /**
+         * @param current the cached snapshot, however old, or {@code null} when the cache is cold
+         * @return a snapshot of the latest roster, or {@code current} itself when the roster has not changed since
+         */
+        RosterSnapshot load(RosterSnapshot current);
+    }
+
+    private record Entry(RosterSnapshot snapshot, Instant expiresAt) {
+
+        boolean isFresh(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * Immutable view of the roster together with the indexes and aggregates derived from it. They are built once per
+ * upstream load and carried forward incrementally as employees are created or deleted through the api. The salary
+ * aggregates run over the columnar {@link EmployeeRoster} held by {@link SalaryIndex}, whose rows follow
+ * {@code employees}.
+ * <p>
+ * {@code version} identifies the roster's content within one {@link RosterCache}, which stamps every snapshot it hands
+ * out; snapshots built outside a cache are version {@code 0}.
+ * <p>
+ * Being immutable, every write copies: adding or removing one employee copies the list, the id map, the salary columns
+ * and the name postings it touches, so it costs time and garbage in proportion to the roster. That suits the api's own
+ * writes, one request at a time. Batches of more than a handful of employees or changes instead rebuild the snapshot
+ * once, which costs about the same as one incremental write.
+ */
+public record RosterSnapshot(
+        long version,
+        List<Employee> employees,
+        Map<String, Employee> employeesById,
+        SalaryIndex salaryIndex,
+        NameIndex nameIndex) {
+
+    private static final int INCREMENTAL_BATCH_LIMIT = 8;
+
+    public static RosterSnapshot of(@NonNull List<Employee> employees) {
+        final var copy = Collections.unmodifiableList(new ArrayList<>(employees));
+        final var byId = new HashMap<String, Employee>(copy.size() * 4 / 3 + 1);
+        for (final var employee : copy) {
+            if (employee.getId() != null) {
+                byId.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        return new RosterSnapshot(
+                0,
+                copy,
+                Collections.unmodifiableMap(byId),
+                SalaryIndex.of(EmployeeRoster.of(copy)),
+                NameIndex.of(copy));
+    }
+
+    /**
+     * @return the first employee in roster order with the given id
+     */
+    public Optional<Employee> findById(@NonNull String id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    public RosterSnapshot withVersion(long version) {
+        return new RosterSnapshot(version, employees, employeesById, salaryIndex, nameIndex);
+    }
+
+    public List<Employee> searchByName(@NonNull String searchString) {
+        return nameIndex.search(searchString);
+    }
+
+    public int highestSalary() {
+        return salaryIndex.highestSalary();
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        return salaryIndex.topNames(limit);
+    }
+
+    public RosterSnapshot withEmployee(@NonNull Employee employee) {
+        final var updated = new ArrayList<Employee>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        final var byId = new HashMap<>(employeesById);
+        if (employee.getId() != null) {
+            byId.putIfAbsent(employee.getId(), employee);
+        }
+        return new RosterSnapshot(
+                version,
+                Collections.unmodifiableList(updated),
+                Collections.unmodifiableMap(byId),
+                salaryIndex.with(employee),
+                nameIndex.with(employee));
+    }
+
+    /**
+     * Appends the employees in order. Past a handful of employees it is cheaper to rebuild the snapshot once than to
+     * copy it for every employee.
+     */
+    public RosterSnapshot withEmployees(@NonNull List<Employee> added) {
+        if (added.size() <= INCREMENTAL_BATCH_LIMIT) {
+            var snapshot = this;
+            for (final var employee : added) {
+                snapshot = snapshot.withEmployee(employee);
+            }
+            return snapshot;
+        }
+        final var updated = new ArrayList<Employee>(employees.size() + added.size());
+        updated.addAll(employees);
+        updated.addAll(added);
+        return of(updated).withVersion(version);
+    }
+
+    /**
+     * Mirrors the mock server's delete, which removes the first employee whose name matches ignoring case.
+     */
+    public RosterSnapshot withoutEmployeeNamed(@NonNull String name) {
+        for (int i = 0; i < employees.size(); i++) {
+            final var employee = employees.get(i);
+            if (employee.getEmployeeName() != null && employee.getEmployeeName().equalsIgnoreCase(name)) {
+                return without(i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Removes the employee with each id. Large batches are applied in a single pass over the roster.
+     */
+    public RosterSnapshot withoutEmployeeIds(@NonNull List<String> ids) {
+        if (ids.size() <= INCREMENTAL_BATCH_LIMIT) {
+            var snapshot = this;
+            for (final var id : ids) {
+                snapshot = snapshot.withoutEmployeeId(id);
+            }
+            return snapshot;
+        }
+        final Set<Employee> deleted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final var id : ids) {
+            final var employee = employeesById.get(id);
+            if (employee != null) {
+                deleted.add(employee);
+            }
+        }
+        if (deleted.isEmpty()) {
+            return this;
+        }
+        final var updated = new ArrayList<Employee>(employees.size() - deleted.size());
+        for (final var employee : employees) {
+            if (!deleted.contains(employee)) {
+                updated.add(employee);
+            }
+        }
+        return of(updated).withVersion(version);
+    }
+
+    public RosterSnapshot withoutEmployeeId(@NonNull String id) {
+        final var employee = employeesById.get(id);
+        if (employee == null) {
+            return this;
+        }
+        for (int i = 0; i < employees.size(); i++) {
+            if (employees.get(i) == employee) {
+                return without(i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Replays upstream changes in order. Replaying is idempotent by id: creates of employees already on the roster and
+     * deletes of employees no longer on it are skipped, since the api may have applied its own writes already. Large
+     * batches are applied in a single pass over the roster.
+     */
+    public RosterSnapshot withChanges(@NonNull List<EmployeeChange> changes) {
+        if (changes.size() > INCREMENTAL_BATCH_LIMIT) {
+            return withChangesRebuilt(changes);
+        }
+        var snapshot = this;
+        for (final var change : changes) {
+            final var employee = change.getEmployee();
+            if (change.getType() == null || employee == null || employee.getId() == null) {
+                continue;
+            }
+            snapshot = switch (change.getType()) {
+                case CREATED -> snapshot.employeesById.containsKey(employee.getId())
+                        ? snapshot
+                        : snapshot.withEmployee(employee);
+                case DELETED -> snapshot.withoutEmployeeId(employee.getId());
+            };
+        }
+        return snapshot;
+    }
+
+    /*
+     * Tracks ids as the incremental replay would, then drops the deleted employees from the roster and appends the
+     * created ones that are still there in one pass.
+     */
+    private RosterSnapshot withChangesRebuilt(List<EmployeeChange> changes) {
+        final var byId = new HashMap<>(employeesById);
+        final var created = new LinkedHashMap<String, Employee>();
+        final Set<Employee> deleted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final var change : changes) {
+            final var employee = change.getEmployee();
+            if (change.getType() == null || employee == null || employee.getId() == null) {
+                continue;
+            }
+            switch (change.getType()) {
+                case CREATED -> {
+                    if (byId.putIfAbsent(employee.getId(), employee) == null) {
+                        created.put(employee.getId(), employee);
+                    }
+                }
+                case DELETED -> {
+                    final var removed = byId.remove(employee.getId());
+                    if (removed != null && created.remove(employee.getId()) == null) {
+                        deleted.add(removed);
+                    }
+                }
+            }
+        }
+        if (created.isEmpty() && deleted.isEmpty()) {
+            return this;
+        }
+        final var updated = new ArrayList<Employee>(employees.size() + created.size());
+        for (final var employee : employees) {
+            if (!deleted.contains(employee)) {
+                updated.add(employee);
+            }
+        }
+        updated.addAll(created.values());
+        return of(updated).withVersion(version);
+    }
+
+    /**
+     * Folds case the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    private static String foldCase(String name) {
+        final var folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private RosterSnapshot without(int index) {
+        final var employee = employees.get(index);
+        final var updated = new ArrayList<Employee>(employees.size() - 1);
+        updated.addAll(employees.subList(0, index));
+        updated.addAll(employees.subList(index + 1, employees.size()));
+        final var byId = new HashMap<>(employeesById);
+        if (employee.getId() != null) {
+            byId.remove(employee.getId(), employee);
+        }
+        return new RosterSnapshot(
+                version,
+                Collections.unmodifiableList(updated),
+                Collections.unmodifiableMap(byId),
+                salaryIndex.without(index),
+                nameIndex.without(employee));
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Immutable ranking of the rows of an {@link EmployeeRoster} by salary, highest first. Rows without a salary are left
+ * out, and rows sharing a salary keep their roster order.
+ * <p>
+ * The ranking is sorted once per roster load, as {@code long} keys packing the salary and the row so that neither a
+ * comparator nor a boxed salary is involved, and large rosters are sorted in parallel by {@link ParallelScan};
+ * {@link #with(Employee)} and {@link #without(int)} binary search the row's position and copy the array instead of
+ * sorting again.
+ */
+public final class SalaryIndex {
+
+    private final EmployeeRoster roster;
+    private final int[] ranked;
+
+    private SalaryIndex(EmployeeRoster roster, int[] ranked) {
+        this.roster = roster;
+        this.ranked = ranked;
+    }
+
+    public static SalaryIndex of(@NonNull EmployeeRoster roster) {
+        final var keys = new long[roster.size()];
+        int count = 0;
+        for (int row = 0; row < roster.size(); row++) {
+            final int salary = roster.salary(row);
+            if (salary != EmployeeRoster.NO_VALUE || roster.hasSalary(row)) {
+                // Inverting the salary sorts it descending; the row in the low half breaks ties in roster order.
+                keys[count++] = ((long) ~salary << 32) | row;
+            }
+        }
+        ParallelScan.sort(keys, count);
+        final var ranked = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranked[i] = (int) keys[i];
+        }
+        return new SalaryIndex(roster, ranked);
+    }
+
+    public EmployeeRoster roster() {
+        return roster;
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    /**
+     * @return the highest salary, or {@code 0} when no employee has a salary
+     */
+    public int highestSalary() {
+        return ranked.length == 0 ? 0 : roster.salary(ranked[0]);
+    }
+
+    public List<String> topNames(int limit) {
+        final int count = Math.min(Math.max(limit, 0), ranked.length);
+        final var names = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(roster.name(ranked[i]));
+        }
+        return names;
+    }
+
+    /**
+     * Appends the employee to the roster and ranks it after every row with an equal salary.
+     */
+    public SalaryIndex with(@NonNull Employee employee) {
+        final var appended = roster.with(employee);
+        final int row = roster.size();
+        if (!appended.hasSalary(row)) {
+            return new SalaryIndex(appended, ranked);
+        }
+        final int position = firstBelow(appended.salary(row));
+        final var updated = new int[ranked.length + 1];
+        System.arraycopy(ranked, 0, updated, 0, position);
+        updated[position] = row;
+        System.arraycopy(ranked, position, updated, position + 1, ranked.length - position);
+        return new SalaryIndex(appended, updated);
+    }
+
+    /**
+     * Removes the row from the roster and the ranking, renumbering the rows after it.
+     */
+    public SalaryIndex without(int row) {
+        final var removed = roster.without(row);
+        final int position = roster.hasSalary(row) ? positionOf(row) : -1;
+        final var updated = new int[position < 0 ? ranked.length : ranked.length - 1];
+        int next = 0;
+        for (int i = 0; i < ranked.length; i++) {
+            if (i != position) {
+                final int rankedRow = ranked[i];
+                updated[next++] = rankedRow > row ? rankedRow - 1 : rankedRow;
+            }
+        }
+        return new SalaryIndex(removed, updated);
+    }
+
+    private int firstBelow(int salary) {
+        int low = 0;
+        int high = ranked.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (roster.salary(ranked[mid]) >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary searches the ranked row, which sits among equal salaries in row order.
+     */
+    private int positionOf(int row) {
+        final int salary = roster.salary(row);
+        int low = 0;
+        int high = ranked.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int midSalary = roster.salary(ranked[mid]);
+            if (midSalary > salary || (midSalary == salary && ranked[mid] < row)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,135 +1,415 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.client.ChangeCursor;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.EmployeeQuery;
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.client.RosterResponse;
+import com.reliaquest.api.client.UpstreamThrottledException;
+import com.reliaquest.api.model.ChangeFeed;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDeletion;
 import com.reliaquest.api.model.EmployeeInput;
-import java.util.HashMap;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 @Service
 @Slf4j
-public class EmployeeService {
+public class EmployeeService implements MeterBinder {
 
-    private final RestTemplate restTemplate;
-    private final String baseUrl;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(30);
 
-    public EmployeeService(
-            RestTemplate restTemplate,
-            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl) {
-        this.restTemplate = restTemplate;
-        this.baseUrl = baseUrl;
+    private final EmployeeClient employeeClient;
+    private final RosterCache rosterCache;
+    private final String instanceTag = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private volatile UpstreamRoster upstreamRoster;
+
+    public EmployeeService(RestTemplate restTemplate, String baseUrl) {
+        this(new RestTemplateEmployeeClient(restTemplate, baseUrl), DEFAULT_CACHE_TTL);
+    }
+
+    @Autowired
+    public EmployeeService(EmployeeClient employeeClient, @Value("${employee.cache.ttl:30s}") Duration cacheTtl) {
+        this(employeeClient, cacheTtl, Clock.systemUTC());
+    }
+
+    EmployeeService(EmployeeClient employeeClient, Duration cacheTtl, Clock clock) {
+        this.employeeClient = employeeClient;
+        this.rosterCache = new RosterCache(this::loadRoster, cacheTtl, clock);
     }
 
     public List<Employee> getAllEmployees() {
+        return rosterCache.get().employees();
+    }
+
+    /*
+     * Search, highest salary and top earners answer from the roster cache once it holds a roster, stale or not: a stale
+     * one is refreshed by a single caller while the others keep answering from it. Only a cold cache runs them as a
+     * query upstream, which returns just the matches rather than the whole roster. If the upstream cannot run the
+     * query, they fall back to loading the roster.
+     */
+    public List<Employee> searchEmployeesByName(String searchString) {
+        return answer(
+                snapshot -> snapshot.searchByName(searchString),
+                EmployeeQuery.builder().name(searchString).build(),
+                EmployeePage::getEmployees);
+    }
+
+    public int getHighestSalary() {
+        return answer(
+                RosterSnapshot::highestSalary,
+                EmployeeQuery.builder().sort("-salary").limit(1).fields(List.of("salary")).build(),
+                page -> page.getEmployees().isEmpty()
+                        ? 0
+                        : page.getEmployees().get(0).getEmployeeSalary());
+    }
+
+    public List<String> getTopEarnerNames(int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        return answer(
+                snapshot -> snapshot.topEarnerNames(limit),
+                EmployeeQuery.builder().sort("-salary").limit(limit).fields(List.of("name")).build(),
+                page -> page.getEmployees().stream()
+                        .map(Employee::getEmployeeName)
+                        .toList());
+    }
+
+    private <T> T answer(
+            Function<RosterSnapshot, T> fromRoster, EmployeeQuery query, Function<EmployeePage, T> fromPage) {
+        if (rosterCache.peek().isPresent()) {
+            return fromRoster.apply(rosterCache.get());
+        }
+        return queryUpstream(query).map(fromPage).orElseGet(() -> fromRoster.apply(rosterCache.get()));
+    }
+
+    /*
+     * Returns empty when the query could not be answered upstream, so the caller falls back to loading the roster. A
+     * throttled upstream is not asked again for the roster.
+     */
+    private Optional<EmployeePage> queryUpstream(EmployeeQuery query) {
+        try {
+            EmployeePage page = employeeClient.queryEmployees(query).join();
+            if (page != null && page.getEmployees() != null) {
+                return Optional.of(page);
+            }
+            log.info("Mock API cannot query employees, answering from the roster");
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.warn("Error querying employees upstream, answering from the roster: {}", cause.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return a weak entity tag for the roster {@link #getAllEmployees()} currently returns; read it before the roster
+     *     so the tag can only ever be older than the body it is sent with
+     */
+    public String getRosterETag() {
+        return "W/\"" + instanceTag + "-" + rosterCache.get().version() + "\"";
+    }
+
+    /*
+     * Catches the current snapshot up with the upstream change feed when it can. Otherwise asks upstream for the
+     * roster only if it changed since the last one we decoded, and keeps the current snapshot when it did not.
+     */
+    private RosterSnapshot loadRoster(RosterSnapshot current) {
+        final var last = upstreamRoster;
+        if (current != null && last != null && last.cursor() != null) {
+            final var synced = replayChanges(current, last);
+            if (synced != null) {
+                return synced;
+            }
+        }
+
         log.info("Fetching all employees from mock API");
         try {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
-
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                log.info(
-                        "Successfully fetched {} employees",
-                        response.getBody().getData().size());
-                return response.getBody().getData();
+            RosterResponse response = employeeClient.getAllEmployees(last != null ? last.etag() : null).join();
+            if (response.notModified()) {
+                log.info("Employee roster unchanged upstream");
+                upstreamRoster = last.withCursor(response.cursor() != null ? response.cursor() : last.cursor());
+                return current != null ? current : RosterSnapshot.of(last.employees());
             }
-            log.warn("Received null or empty response from mock API");
-            return List.of();
+            List<Employee> employees = response.employees();
+            log.info("Successfully fetched {} employees", employees.size());
+            upstreamRoster = new UpstreamRoster(response.etag(), employees, response.cursor());
+            return RosterSnapshot.of(employees);
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error fetching all employees: {}", cause.getMessage(), cause);
+            throw new RuntimeException("Failed to fetch employees", cause);
+        }
+    }
+
+    /*
+     * Applies the changes made upstream since the cursor to the current snapshot, so a refresh costs as much as the
+     * churn rather than the roster. Returns null when the feed cannot bring the snapshot up to date and the roster has
+     * to be reloaded instead.
+     */
+    private RosterSnapshot replayChanges(RosterSnapshot current, UpstreamRoster last) {
+        final var cursor = last.cursor();
+        try {
+            ChangeFeed feed = employeeClient.getChangesSince(cursor.sequence()).join();
+            if (feed == null || !cursor.epoch().equals(feed.getEpoch()) || feed.getChanges() == null) {
+                log.info("Upstream changes since {} cannot be replayed, reloading the roster", cursor);
+                return null;
+            }
+            upstreamRoster = last.withCursor(cursor.advancedTo(feed.getLatest()));
+            if (feed.getChanges().isEmpty()) {
+                log.info("Employee roster unchanged upstream");
+                return current;
+            }
+            log.info("Applying {} upstream employee changes", feed.getChanges().size());
+            return current.withChanges(feed.getChanges());
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.warn("Error reading upstream changes, reloading the roster: {}", cause.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Streams the roster from upstream to {@code consumer}, one employee at a time, without reading or filling the
+     * roster cache.
+     *
+     * @return the number of employees streamed
+     */
+    public long streamAllEmployees(Consumer<Employee> consumer) {
+        log.info("Streaming all employees from mock API");
+        try {
+            long count = employeeClient.streamAllEmployees(consumer).join();
+            log.info("Successfully streamed {} employees", count);
+            return count;
         } catch (Exception e) {
-            log.error("Error fetching all employees: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch employees", e);
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error streaming employees: {}", cause.getMessage(), cause);
+            throw new RuntimeException("Failed to stream employees", cause);
         }
     }
 
     public Employee getEmployeeById(String id) {
         log.info("Fetching employee with id: {}", id);
         try {
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl + "/" + id,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
-
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                log.info(
-                        "Successfully fetched employee: {}",
-                        response.getBody().getData().getEmployeeName());
-                return response.getBody().getData();
+            Employee employee = employeeClient.getEmployeeById(id).join();
+            if (employee != null) {
+                log.info("Successfully fetched employee: {}", employee.getEmployeeName());
+                return employee;
             }
             log.warn("Employee with id {} not found", id);
             return null;
         } catch (Exception e) {
-            log.error("Error fetching employee with id {}: {}", id, e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch employee", e);
+            Throwable cause = unwrap(e);
+            if (cause instanceof UpstreamThrottledException throttled) {
+                // Fall back to the cached roster, however old, rather than failing outright.
+                return rosterCache
+                        .peek()
+                        .flatMap(snapshot -> snapshot.findById(id))
+                        .orElseThrow(() -> throttled);
+            }
+            log.error("Error fetching employee with id {}: {}", id, cause.getMessage(), cause);
+            throw new RuntimeException("Failed to fetch employee", cause);
         }
     }
 
     public Employee createEmployee(EmployeeInput employeeInput) {
         log.info("Creating new employee: {}", employeeInput.getName());
         try {
-            // Create a properly structured request with correct headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Map EmployeeInput to the format expected by mock server
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("name", employeeInput.getName());
-            requestBody.put("salary", employeeInput.getSalary());
-            requestBody.put("age", employeeInput.getAge());
-            requestBody.put("title", employeeInput.getTitle());
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
-
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                Employee createdEmployee = response.getBody().getData();
+            Employee createdEmployee = employeeClient.createEmployee(employeeInput).join();
+            if (createdEmployee != null) {
                 log.info("Successfully created employee with id: {}", createdEmployee.getId());
+                rosterCache.apply(snapshot -> snapshot.withEmployee(createdEmployee));
                 return createdEmployee;
             }
             log.warn("Failed to create employee - received null response");
             return null;
         } catch (Exception e) {
-            log.error("Error creating employee {}: {}", employeeInput.getName(), e.getMessage(), e);
-            throw new RuntimeException("Failed to create employee", e);
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error creating employee {}: {}", employeeInput.getName(), cause.getMessage(), cause);
+            throw new RuntimeException("Failed to create employee", cause);
         }
     }
 
     public boolean deleteEmployeeByName(String name) {
         log.info("Deleting employee with name: {}", name);
         try {
-            // Create proper request body and headers for delete operation
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Create request body with employee name as expected by mock server
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("name", name);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.DELETE, request, new ParameterizedTypeReference<>() {});
-
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                boolean deleted = response.getBody().getData();
-                log.info("Employee deletion result for {}: {}", name, deleted);
-                return deleted;
+            boolean deleted = employeeClient.deleteEmployeeByName(name).join();
+            log.info("Employee deletion result for {}: {}", name, deleted);
+            if (deleted) {
+                rosterCache.apply(snapshot -> snapshot.withoutEmployeeNamed(name));
             }
-            log.warn("Failed to delete employee - received null response");
-            return false;
+            return deleted;
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error deleting employee {}: {}", name, cause.getMessage(), cause);
+            throw new RuntimeException("Failed to delete employee", cause);
+        }
+    }
+
+    /**
+     * Deletes exactly the employee with the given id with one upstream call. Deleting by name instead would take the
+     * earliest of any namesakes, which need not be this employee.
+     *
+     * @return the deleted employee, or {@code null} when there is no employee with that id
+     */
+    public Employee deleteEmployeeById(String id) {
+        log.info("Deleting employee with id: {}", id);
+        try {
+            Employee deletedEmployee = employeeClient.deleteEmployeeById(id).join();
+            if (deletedEmployee == null) {
+                log.warn("Employee with id {} not found", id);
+                return null;
+            }
+            log.info("Successfully deleted employee: {}", deletedEmployee.getEmployeeName());
+            rosterCache.apply(snapshot -> snapshot.withoutEmployeeId(id));
+            return deletedEmployee;
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error deleting employee with id {}: {}", id, cause.getMessage(), cause);
+            throw new RuntimeException("Failed to delete employee", cause);
+        }
+    }
+
+    /**
+     * Creates all employees with one upstream call.
+     *
+     * @return the created employees, in input order
+     */
+    public List<Employee> createEmployees(List<EmployeeInput> employeeInputs) {
+        log.info("Creating {} employees", employeeInputs.size());
+        try {
+            List<Employee> createdEmployees = employeeClient.createEmployees(employeeInputs).join();
+            log.info("Successfully created {} employees", createdEmployees.size());
+            if (!createdEmployees.isEmpty()) {
+                rosterCache.apply(snapshot -> snapshot.withEmployees(createdEmployees));
+            }
+            return createdEmployees;
         } catch (Exception e) {
-            log.error("Error deleting employee {}: {}", name, e.getMessage(), e);
-            throw new RuntimeException("Failed to delete employee", e);
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error creating {} employees: {}", employeeInputs.size(), cause.getMessage(), cause);
+            throw new RuntimeException("Failed to create employees", cause);
+        }
+    }
+
+    /**
+     * Deletes exactly the employees with the given ids with one upstream call, like {@link #deleteEmployeeById(String)}
+     * does for one id. Ids that are not UUIDs cannot name an employee and are reported as not deleted without asking
+     * upstream.
+     *
+     * @return the outcome for each id, in input order, with the name of the employee deleted
+     */
+    public List<EmployeeDeletion> deleteEmployeesById(List<String> ids) {
+        log.info("Deleting {} employees", ids.size());
+        List<EmployeeDeletion> deletions = new ArrayList<>(ids.size());
+        List<EmployeeDeletion> requested = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            EmployeeDeletion deletion = new EmployeeDeletion(id, null, false);
+            deletions.add(deletion);
+            if (isUuid(id)) {
+                requested.add(deletion);
+            }
+        }
+        if (requested.isEmpty()) {
+            return deletions;
+        }
+
+        try {
+            List<String> requestedIds = requested.stream().map(EmployeeDeletion::getId).toList();
+            List<Employee> deleted = employeeClient.deleteEmployeesById(requestedIds).join();
+            List<String> deletedIds = new ArrayList<>(requested.size());
+            for (int i = 0; i < requested.size() && i < deleted.size(); i++) {
+                Employee employee = deleted.get(i);
+                if (employee != null) {
+                    requested.get(i).setName(employee.getEmployeeName());
+                    requested.get(i).setDeleted(true);
+                    deletedIds.add(employee.getId() != null ? employee.getId() : requested.get(i).getId());
+                }
+            }
+            log.info("Deleted {} of {} employees", deletedIds.size(), ids.size());
+            if (!deletedIds.isEmpty()) {
+                rosterCache.apply(snapshot -> snapshot.withoutEmployeeIds(deletedIds));
+            }
+            return deletions;
+        } catch (Exception e) {
+            Throwable cause = unwrap(e);
+            rethrowIfThrottled(cause);
+            log.error("Error deleting {} employees: {}", requested.size(), cause.getMessage(), cause);
+            throw new RuntimeException("Failed to delete employees", cause);
+        }
+    }
+
+    /*
+     * Spring binds MeterBinder beans on startup. The gauge reads whatever is cached and never loads the roster.
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("employee.roster.size", rosterCache, cache -> cache.peek()
+                        .map(snapshot -> snapshot.employees().size())
+                        .orElse(0))
+                .description("Employees in the cached roster, 0 while it is cold")
+                .register(registry);
+    }
+
+    private static boolean isUuid(String id) {
+        if (id == null) {
+            return false;
+        }
+        try {
+            return UUID.fromString(id).toString().equalsIgnoreCase(id);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void rethrowIfThrottled(Throwable cause) {
+        if (cause instanceof UpstreamThrottledException throttled) {
+            log.warn("Mock employee API is throttling: {}", throttled.getMessage());
+            throw throttled;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    /**
+     * The last roster decoded from upstream with the entity tag it came with, and how far the change feed has been
+     * replayed on top of it.
+     */
+    private record UpstreamRoster(String etag, List<Employee> employees, ChangeCursor cursor) {
+
+        UpstreamRoster withCursor(ChangeCursor cursor) {
+            return new UpstreamRoster(etag, employees, cursor);
         }
     }
 }
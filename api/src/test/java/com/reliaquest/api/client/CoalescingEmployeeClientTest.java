@@ -0,0 +1,156 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Coalescing Employee Client Unit Tests")
+class CoalescingEmployeeClientTest {
+
+    private final Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+    private final PendingClient upstream = new PendingClient();
+    private final CoalescingEmployeeClient client = new CoalescingEmployeeClient(upstream);
+
+    @Test
+    @DisplayName("Should share one upstream call between concurrent roster reads")
+    void getAllEmployees_Coalesced() {
+        // Given
+        CompletableFuture<List<Employee>> first = client.getAllEmployees();
+        CompletableFuture<List<Employee>> second = client.getAllEmployees();
+        CompletableFuture<List<Employee>> third = client.getAllEmployees();
+
+        // When
+        upstream.rosterCalls.get(0).complete(List.of(john));
+
+        // Then
+        assertEquals(1, upstream.rosterCalls.size());
+        assertEquals(List.of(john), first.join());
+        assertEquals(List.of(john), second.join());
+        assertEquals(List.of(john), third.join());
+        assertEquals(3, client.getReads());
+        assertEquals(2, client.getCoalescedReads());
+        assertEquals(2.0 / 3, client.getDedupRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should go upstream again once the shared call has completed")
+    void getAllEmployees_AfterCompletion() {
+        // Given
+        client.getAllEmployees();
+        upstream.rosterCalls.get(0).complete(List.of(john));
+
+        // When
+        client.getAllEmployees();
+
+        // Then
+        assertEquals(2, upstream.rosterCalls.size());
+        assertEquals(0, client.getCoalescedReads());
+    }
+
+    @Test
+    @DisplayName("Should coalesce reads per id")
+    void getEmployeeById_CoalescedPerId() {
+        // Given
+        CompletableFuture<Employee> first = client.getEmployeeById("1");
+        CompletableFuture<Employee> second = client.getEmployeeById("1");
+        CompletableFuture<Employee> other = client.getEmployeeById("2");
+
+        // When
+        upstream.employeeCalls.get(0).complete(john);
+        upstream.employeeCalls.get(1).complete(null);
+
+        // Then
+        assertEquals(List.of("1", "2"), upstream.requestedIds);
+        assertSame(john, first.join());
+        assertSame(john, second.join());
+        assertNull(other.join());
+    }
+
+    @Test
+    @DisplayName("Should hand the upstream failure to every coalesced caller")
+    void getAllEmployees_Failure() {
+        // Given
+        CompletableFuture<List<Employee>> first = client.getAllEmployees();
+        CompletableFuture<List<Employee>> second = client.getAllEmployees();
+        RuntimeException failure = new RuntimeException("Connection refused");
+
+        // When
+        upstream.rosterCalls.get(0).completeExceptionally(failure);
+
+        // Then
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+        client.getAllEmployees();
+        assertEquals(2, upstream.rosterCalls.size());
+    }
+
+    @Test
+    @DisplayName("Should not let one caller complete the future shared with the others")
+    void getAllEmployees_FollowersIsolated() {
+        // Given
+        client.getAllEmployees();
+        CompletableFuture<List<Employee>> follower = client.getAllEmployees();
+        CompletableFuture<List<Employee>> other = client.getAllEmployees();
+
+        // When
+        follower.cancel(true);
+        upstream.rosterCalls.get(0).complete(List.of(john));
+
+        // Then
+        assertEquals(List.of(john), other.join());
+    }
+
+    @Test
+    @DisplayName("Should not coalesce writes")
+    void writes_PassedThrough() {
+        // When
+        client.deleteEmployeeByName("John Doe");
+        client.deleteEmployeeByName("John Doe");
+
+        // Then
+        assertEquals(2, upstream.deletes);
+        assertEquals(0, client.getReads());
+    }
+
+    private static class PendingClient implements EmployeeClient {
+
+        private final List<CompletableFuture<List<Employee>>> rosterCalls = new ArrayList<>();
+        private final List<CompletableFuture<Employee>> employeeCalls = new ArrayList<>();
+        private final List<String> requestedIds = new ArrayList<>();
+        private int deletes;
+
+        @Override
+        public CompletableFuture<List<Employee>> getAllEmployees() {
+            CompletableFuture<List<Employee>> call = new CompletableFuture<>();
+            rosterCalls.add(call);
+            return call;
+        }
+
+        @Override
+        public CompletableFuture<Employee> getEmployeeById(String id) {
+            CompletableFuture<Employee> call = new CompletableFuture<>();
+            requestedIds.add(id);
+            employeeCalls.add(call);
+            return call;
+        }
+
+        @Override
+        public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+            deletes++;
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Metered Employee Client Unit Tests")
+class MeteredEmployeeClientTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should time each upstream call tagged by call and outcome")
+    void time_TaggedByCallAndOutcome() {
+        // Given
+        Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        MeteredEmployeeClient client = new MeteredEmployeeClient(new StubClient(john), registry);
+
+        // When
+        client.getAllEmployees().join();
+        client.getAllEmployees().join();
+        client.getEmployeeById("1").join();
+        assertThrows(Exception.class, () -> client.createEmployee(null).join());
+
+        // Then
+        assertEquals(2, count("getAllEmployees", "success"));
+        assertEquals(1, count("getEmployeeById", "success"));
+        assertEquals(1, count("createEmployee", "throttled"));
+    }
+
+    @Test
+    @DisplayName("Should tell throttling apart from other failures")
+    void outcome() {
+        // When & Then
+        assertEquals("success", MeteredEmployeeClient.outcome(null));
+        assertEquals(
+                "throttled",
+                MeteredEmployeeClient.outcome(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)));
+        assertEquals(
+                "client_error",
+                MeteredEmployeeClient.outcome(
+                        HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null)));
+        assertEquals(
+                "server_error",
+                MeteredEmployeeClient.outcome(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)));
+        assertEquals("error", MeteredEmployeeClient.outcome(new ResourceAccessException("Connection refused")));
+    }
+
+    private long count(String call, String outcome) {
+        return registry.get(MeteredEmployeeClient.CALLS)
+                .tag("call", call)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static class StubClient implements EmployeeClient {
+
+        private final Employee employee;
+
+        StubClient(Employee employee) {
+            this.employee = employee;
+        }
+
+        @Override
+        public CompletableFuture<List<Employee>> getAllEmployees() {
+            return CompletableFuture.completedFuture(List.of(employee));
+        }
+
+        @Override
+        public CompletableFuture<Employee> getEmployeeById(String id) {
+            return CompletableFuture.completedFuture(employee);
+        }
+
+        @Override
+        public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+            return CompletableFuture.failedFuture(HttpClientErrorException.create(
+                    HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+}
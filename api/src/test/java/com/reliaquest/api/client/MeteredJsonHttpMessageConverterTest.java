@@ -0,0 +1,69 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Metered JSON HTTP Message Converter Unit Tests")
+class MeteredJsonHttpMessageConverterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should decode the body as it streams in and record its size and decode time")
+    void read_RecordsPayload() throws IOException {
+        // Given
+        byte[] body = """
+                {"data": [
+                    {"id": "1", "employee_name": "John Doe", "employee_salary": 50000},
+                    {"id": "2", "employee_name": "Jane Smith", "employee_salary": 60000}
+                ], "status": "Successfully processed request."}
+                """.getBytes(StandardCharsets.UTF_8);
+        MockHttpInputMessage message = new MockHttpInputMessage(body);
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        MeteredJsonHttpMessageConverter converter = new MeteredJsonHttpMessageConverter(registry);
+
+        // When
+        @SuppressWarnings("unchecked")
+        ApiResponse<List<Employee>> response = (ApiResponse<List<Employee>>) converter.read(
+                new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {}.getType(), null, message);
+
+        // Then
+        assertEquals("Jane Smith", response.getData().get(1).getEmployeeName());
+        assertEquals(1, registry.get(UpstreamPayloadMeters.DECODE).timer().count());
+        assertEquals(1, registry.get(UpstreamPayloadMeters.PAYLOAD).summary().count());
+        assertEquals(body.length, registry.get(UpstreamPayloadMeters.PAYLOAD).summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should count the bytes and reads that pass through")
+    void countingInputStream() throws IOException {
+        // Given
+        MeteredJsonHttpMessageConverter.CountingInputStream in =
+                new MeteredJsonHttpMessageConverter.CountingInputStream(new ByteArrayInputStream(new byte[10]));
+
+        // When
+        in.read();
+        in.read(new byte[4], 0, 4);
+        in.skip(2);
+        in.read(new byte[8], 0, 8);
+
+        // Then
+        assertEquals(10, in.getBytes());
+        assertEquals(-1, in.read());
+        assertEquals(10, in.getBytes());
+        assertTrue(in.getReadNanos() >= 0);
+    }
+}
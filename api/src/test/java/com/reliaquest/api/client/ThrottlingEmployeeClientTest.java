@@ -0,0 +1,240 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Throttling Employee Client Unit Tests")
+class ThrottlingEmployeeClientTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(90);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ScriptedClient upstream = new ScriptedClient();
+
+    @Test
+    @DisplayName("Should pass calls through while the upstream accepts them")
+    void passThrough() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+
+        // When
+        List<Employee> employees = client.getAllEmployees().join();
+
+        // Then
+        assertEquals(1, employees.size());
+        assertEquals(1, upstream.calls.get());
+        assertEquals(1, client.getUpstreamCalls());
+        assertEquals(0, client.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("Should translate a 429 and fail fast without calling upstream during the backoff")
+    void tooManyRequests_BacksOff() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+        upstream.failNext(tooManyRequests(null));
+
+        // When
+        CompletionException first = assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        CompletionException second = assertThrows(CompletionException.class, () -> client.getEmployeeById("1").join());
+
+        // Then
+        assertInstanceOf(UpstreamThrottledException.class, first.getCause());
+        UpstreamThrottledException rejected = assertInstanceOf(UpstreamThrottledException.class, second.getCause());
+        assertEquals(Duration.ofSeconds(1), rejected.getRetryAfter());
+        assertEquals(1, upstream.calls.get());
+        assertEquals(1, client.getThrottledResponses());
+        assertEquals(1, client.getRejectedCalls());
+        assertEquals(1, client.getBudget());
+    }
+
+    @Test
+    @DisplayName("Should honor Retry-After when it is longer than the backoff")
+    void tooManyRequests_RetryAfter() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+        upstream.failNext(tooManyRequests("30"));
+        assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+        CompletionException rejected = assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        List<Employee> employees = client.getAllEmployees().join();
+
+        // Then
+        assertInstanceOf(UpstreamThrottledException.class, rejected.getCause());
+        assertEquals(1, employees.size());
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should double the backoff when the probe after a backoff is throttled again")
+    void probeThrottled_DoublesBackoff() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+        upstream.failNext(tooManyRequests(null));
+        upstream.failNext(tooManyRequests(null));
+        assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+
+        // When
+        nanos.addAndGet(INITIAL_BACKOFF.toNanos());
+        assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(INITIAL_BACKOFF.toNanos());
+        assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(INITIAL_BACKOFF.toNanos());
+        List<Employee> employees = client.getAllEmployees().join();
+
+        // Then
+        assertEquals(1, employees.size());
+        assertEquals(3, upstream.calls.get());
+        assertEquals(2, client.getThrottledResponses());
+        assertEquals(1, client.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("Should learn the budget from the calls accepted before a 429 and spend no more per window")
+    void budget_LearnedFromAcceptedCalls() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+        for (int i = 0; i < 3; i++) {
+            client.getAllEmployees().join();
+        }
+        upstream.failNext(tooManyRequests(null));
+        assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(INITIAL_BACKOFF.toNanos());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            client.getAllEmployees().join();
+        }
+        CompletionException exhausted = assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        nanos.addAndGet(INITIAL_BACKOFF.toNanos());
+        List<Employee> refilled = client.getAllEmployees().join();
+
+        // Then
+        assertEquals(3, client.getBudget());
+        assertEquals(2, client.getTokens());
+        UpstreamThrottledException rejected = assertInstanceOf(UpstreamThrottledException.class, exhausted.getCause());
+        assertEquals(INITIAL_BACKOFF, rejected.getRetryAfter());
+        assertEquals(1, refilled.size());
+        assertEquals(8, upstream.calls.get());
+        assertEquals(1, client.getThrottledResponses());
+        assertEquals(1, client.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("Should propagate other upstream failures unchanged")
+    void otherFailures_Propagate() {
+        // Given
+        ThrottlingEmployeeClient client = client(4);
+        upstream.failNext(HttpServerErrorException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", HttpHeaders.EMPTY, null, null));
+
+        // When
+        CompletionException exception =
+                assertThrows(CompletionException.class, () -> client.deleteEmployeeByName("John").join());
+
+        // Then
+        assertInstanceOf(HttpServerErrorException.class, exception.getCause());
+        assertTrue(client.deleteEmployeeByName("John").join());
+        assertEquals(0, client.getThrottledResponses());
+    }
+
+    @Test
+    @DisplayName("Should turn callers away once the queue timeout passes with every slot taken")
+    void saturated_QueueTimeout() {
+        // Given
+        ThrottlingEmployeeClient client = client(1);
+        CompletableFuture<List<Employee>> pending = new CompletableFuture<>();
+        upstream.holdNext(pending);
+        CompletableFuture<List<Employee>> inFlight = client.getAllEmployees();
+
+        // When
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        pending.complete(List.of());
+
+        // Then
+        assertInstanceOf(UpstreamThrottledException.class, exception.getCause());
+        assertTrue(inFlight.join().isEmpty());
+        assertEquals(1, client.getRejectedCalls());
+    }
+
+    private ThrottlingEmployeeClient client(int maxConcurrent) {
+        return new ThrottlingEmployeeClient(
+                upstream, maxConcurrent, Duration.ofMillis(50), INITIAL_BACKOFF, MAX_BACKOFF, nanos::get);
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private static class ScriptedClient implements EmployeeClient {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Deque<Exception> failures = new ArrayDeque<>();
+        private final List<CompletableFuture<List<Employee>>> held = new ArrayList<>();
+
+        void failNext(Exception failure) {
+            failures.add(failure);
+        }
+
+        void holdNext(CompletableFuture<List<Employee>> future) {
+            held.add(future);
+        }
+
+        private <T> CompletableFuture<T> respond(T value) {
+            calls.incrementAndGet();
+            Exception failure = failures.poll();
+            return failure != null ? CompletableFuture.failedFuture(failure) : CompletableFuture.completedFuture(value);
+        }
+
+        @Override
+        public CompletableFuture<List<Employee>> getAllEmployees() {
+            if (!held.isEmpty()) {
+                calls.incrementAndGet();
+                return held.remove(0);
+            }
+            return respond(List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com")));
+        }
+
+        @Override
+        public CompletableFuture<Employee> getEmployeeById(String id) {
+            return respond(new Employee(id, "John Doe", 50000, 30, "Developer", "john@company.com"));
+        }
+
+        @Override
+        public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+            return respond(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+            return respond(true);
+        }
+    }
+}
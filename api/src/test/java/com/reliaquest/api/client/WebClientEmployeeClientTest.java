@@ -0,0 +1,215 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebClient Employee Client Unit Tests")
+class WebClientEmployeeClientTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should get all employees")
+    void getAllEmployees_Success() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, """
+                {"data": [
+                    {"id": "1", "employee_name": "John Doe", "employee_salary": 50000},
+                    {"id": "2", "employee_name": "Jane Smith", "employee_salary": 60000}
+                ], "status": "Successfully processed request."}
+                """);
+
+        // When
+        List<Employee> employees = client.getAllEmployees().join();
+
+        // Then
+        assertEquals(2, employees.size());
+        assertEquals("Jane Smith", employees.get(1).getEmployeeName());
+        assertEquals(HttpMethod.GET, requests.get(0).method());
+        assertEquals(BASE_URL, requests.get(0).url().toString());
+    }
+
+    @Test
+    @DisplayName("Should return empty list when response has no data")
+    void getAllEmployees_NullData() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, "{\"status\": \"Successfully processed request.\"}");
+
+        // When & Then
+        assertTrue(client.getAllEmployees().join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stream employees from the newline-delimited export")
+    void streamAllEmployees() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, MediaType.APPLICATION_NDJSON_VALUE, """
+                {"id": "1", "employee_name": "John Doe", "employee_salary": 50000}
+                {"id": "2", "employee_name": "Jane Smith", "employee_salary": 60000}
+                """);
+        List<Employee> streamed = new ArrayList<>();
+
+        // When
+        long count = client.streamAllEmployees(streamed::add).join();
+
+        // Then
+        assertEquals(2, count);
+        assertEquals("Jane Smith", streamed.get(1).getEmployeeName());
+        assertEquals(BASE_URL + "/export", requests.get(0).url().toString());
+        assertEquals(List.of(MediaType.APPLICATION_NDJSON), requests.get(0).headers().getAccept());
+    }
+
+    @Test
+    @DisplayName("Should get employee by id and return null when response has no data")
+    void getEmployeeById() {
+        // Given
+        EmployeeClient found = clientRespondingWith(HttpStatus.OK, """
+                {"data": {"id": "123", "employee_name": "John Doe"}}
+                """);
+        EmployeeClient missing = clientRespondingWith(HttpStatus.OK, "{}");
+
+        // When & Then
+        assertEquals("John Doe", found.getEmployeeById("123").join().getEmployeeName());
+        assertEquals(BASE_URL + "/123", requests.get(0).url().toString());
+        assertNull(missing.getEmployeeById("999").join());
+    }
+
+    @Test
+    @DisplayName("Should post new employee")
+    void createEmployee() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, """
+                {"data": {"id": "456", "employee_name": "New Employee", "employee_salary": 55000}}
+                """);
+
+        // When
+        Employee created = client.createEmployee(new EmployeeInput("New Employee", 55000, 28, "Analyst"))
+                .join();
+
+        // Then
+        assertEquals("456", created.getId());
+        assertEquals(HttpMethod.POST, requests.get(0).method());
+        assertEquals(MediaType.APPLICATION_JSON, requests.get(0).headers().getContentType());
+    }
+
+    @Test
+    @DisplayName("Should delete employee by name")
+    void deleteEmployeeByName() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, "{\"data\": true}");
+
+        // When & Then
+        assertTrue(client.deleteEmployeeByName("John Doe").join());
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+    }
+
+    @Test
+    @DisplayName("Should delete employee by id and return null when there is no such employee")
+    void deleteEmployeeById() {
+        // Given
+        EmployeeClient found = clientRespondingWith(HttpStatus.OK, """
+                {"data": {"id": "123", "employee_name": "John Doe"}}
+                """);
+        EmployeeClient missing = clientRespondingWith(HttpStatus.NOT_FOUND, "{}");
+
+        // When & Then
+        assertEquals("John Doe", found.deleteEmployeeById("123").join().getEmployeeName());
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+        assertEquals(BASE_URL + "/123", requests.get(0).url().toString());
+        assertNull(missing.deleteEmployeeById("999").join());
+    }
+
+    @Test
+    @DisplayName("Should delete a batch by id and read null where there is no such employee")
+    void deleteEmployeesById() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, """
+                {"data": [{"id": "123", "employee_name": "John Doe"}, null]}
+                """);
+
+        // When
+        List<Employee> deleted = client.deleteEmployeesById(List.of("123", "999")).join();
+
+        // Then
+        assertEquals("John Doe", deleted.get(0).getEmployeeName());
+        assertNull(deleted.get(1));
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+        assertEquals(BASE_URL + "/batch/ids", requests.get(0).url().toString());
+    }
+
+    @Test
+    @DisplayName("Should fail the future on error status")
+    void getAllEmployees_ErrorStatus() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.TOO_MANY_REQUESTS, "");
+
+        // When & Then
+        CompletionException exception =
+                assertThrows(CompletionException.class, () -> client.getAllEmployees().join());
+        assertTrue(exception.getCause() instanceof WebClientResponseException.TooManyRequests);
+    }
+
+    @Test
+    @DisplayName("Should send the query as encoded parameters and read one page")
+    void queryEmployees() {
+        // Given
+        EmployeeClient client = clientRespondingWith(HttpStatus.OK, """
+                {"data": {"employees": [{"employee_name": "Jane Smith"}], "nextCursor": "60000:2"}}
+                """);
+        EmployeeQuery query = EmployeeQuery.builder()
+                .name("Jane & Co")
+                .sort("-salary")
+                .limit(1)
+                .fields(List.of("name"))
+                .build();
+
+        // When
+        EmployeePage page = client.queryEmployees(query).join();
+
+        // Then
+        assertEquals("Jane Smith", page.getEmployees().get(0).getEmployeeName());
+        assertNull(page.getEmployees().get(0).getEmployeeSalary());
+        assertEquals("60000:2", page.getNextCursor());
+        assertEquals(
+                BASE_URL + "?name=Jane%20%26%20Co&sort=-salary&limit=1&fields=name",
+                requests.get(0).url().toString());
+    }
+
+    private EmployeeClient clientRespondingWith(HttpStatus status, String body) {
+        return clientRespondingWith(status, MediaType.APPLICATION_JSON_VALUE, body);
+    }
+
+    private EmployeeClient clientRespondingWith(HttpStatus status, String contentType, String body) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, contentType)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new WebClientEmployeeClient(webClient);
+    }
+}
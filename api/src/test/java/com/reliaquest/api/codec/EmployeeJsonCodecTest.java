@@ -0,0 +1,106 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Employee JSON Codec Unit Tests")
+class EmployeeJsonCodecTest {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Employee>> EMPLOYEE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<Employee>> EMPLOYEES_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Employee john =
+            new Employee("1", "Jöhn \"Johnny\" Doe", 50000, 30, "Developer\n", "john@company.com");
+    private final Employee sparse = new Employee("2", null, null, null, null, null);
+
+    @Test
+    @DisplayName("Should read the roster body as databind does, skipping unknown properties")
+    void read_Roster() throws Exception {
+        // Given
+        String json = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"J\\u00f6hn \\\"Johnny\\\" Doe\","
+                + "\"employee_salary\":50000,\"employee_age\":30,\"extra\":{\"nested\":[1,2]},"
+                + "\"employee_title\":\"Developer\\n\",\"employee_email\":\"john@company.com\"},"
+                + "{\"employee_age\":null,\"id\":\"2\"}],"
+                + "\"status\":\"Successfully processed request.\",\"error\":null}";
+
+        // When
+        Object read = EmployeeJsonCodec.read(stream(json), ROSTER_TYPE.getType());
+
+        // Then
+        ApiResponse<List<Employee>> expected = objectMapper.readValue(json, ROSTER_TYPE);
+        assertEquals(expected, read);
+        assertEquals(List.of(john, sparse), expected.getData());
+    }
+
+    @Test
+    @DisplayName("Should read a single employee response and a missing one")
+    void read_Employee() throws Exception {
+        // Given
+        String found = "{\"data\":" + objectMapper.writeValueAsString(john) + ",\"status\":\"ok\"}";
+        String missing = "{\"status\":\"ok\"}";
+
+        // When
+        Object foundRead = EmployeeJsonCodec.read(stream(found), EMPLOYEE_TYPE.getType());
+        Object missingRead = EmployeeJsonCodec.read(stream(missing), EMPLOYEE_TYPE.getType());
+
+        // Then
+        assertEquals(new ApiResponse<>(john, "ok"), foundRead);
+        assertEquals(new ApiResponse<>(null, "ok"), missingRead);
+    }
+
+    @Test
+    @DisplayName("Should reject a body that is not the expected shape")
+    void read_Malformed() {
+        // When & Then
+        assertThrows(
+                JsonParseException.class,
+                () -> EmployeeJsonCodec.read(stream("{\"data\":{\"id\":\"1\"}}"), ROSTER_TYPE.getType()));
+        assertThrows(
+                JsonParseException.class,
+                () -> EmployeeJsonCodec.read(stream("[{\"employee_salary\":\"high\"}]"), EMPLOYEES_TYPE.getType()));
+        assertThrows(
+                JsonParseException.class,
+                () -> EmployeeJsonCodec.read(stream("[{\"employee_salary\":5.5}]"), EMPLOYEES_TYPE.getType()));
+        assertThrows(
+                JsonParseException.class,
+                () -> EmployeeJsonCodec.read(stream("[{\"employee_age\":2147483648}]"), EMPLOYEES_TYPE.getType()));
+        assertThrows(
+                JsonParseException.class,
+                () -> EmployeeJsonCodec.read(stream("[{\"employee_salary\":true}]"), EMPLOYEES_TYPE.getType()));
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes as databind")
+    void write_MatchesDatabind() throws Exception {
+        // Given
+        List<Employee> employees = List.of(john, sparse);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        EmployeeJsonCodec.write(out, employees, EMPLOYEES_TYPE.getType());
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), out.toByteArray());
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
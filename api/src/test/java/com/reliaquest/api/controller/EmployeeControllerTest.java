@@ -1,7 +1,9 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.UpstreamThrottledException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDeletion;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.DisplayName;
@@ -11,10 +13,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -76,6 +81,51 @@ class EmployeeControllerTest {
         verify(employeeService).getAllEmployees();
     }
 
+    @Test
+    @DisplayName("GET /api/v1/employee - Should tag the roster and answer 304 when the tag still matches")
+    void getAllEmployees_ConditionalRequest() throws Exception {
+        // Given
+        Employee employee = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        when(employeeService.getRosterETag()).thenReturn("W/\"abc-3\"");
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"abc-3\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/employee").header("If-None-Match", "W/\"abc-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employee/export - Should stream employees as newline-delimited JSON")
+    void exportEmployees() throws Exception {
+        // Given
+        Employee employee1 = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        Employee employee2 = new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com");
+        when(employeeService.streamAllEmployees(any())).thenAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(employee1);
+            consumer.accept(employee2);
+            return 2L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(employee1) + "\n"
+                        + objectMapper.writeValueAsString(employee2) + "\n"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/employee - Should return 500 when service throws exception")
     void getAllEmployees_ServiceException() throws Exception {
@@ -89,6 +139,19 @@ class EmployeeControllerTest {
         verify(employeeService).getAllEmployees();
     }
 
+    @Test
+    @DisplayName("GET /api/v1/employee - Should return 503 with Retry-After when upstream is throttling")
+    void getAllEmployees_UpstreamThrottled() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees())
+                .thenThrow(new UpstreamThrottledException("Backing off", Duration.ofMillis(41500)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "42"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/employee/{id} - Should return employee by ID")
     void getEmployeeById_Success() throws Exception {
@@ -130,10 +193,9 @@ class EmployeeControllerTest {
         String searchString = "john";
         Employee employee1 = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
         Employee employee2 = new Employee("2", "Johnny Smith", 55000, 28, "Designer", "johnny@company.com");
-        Employee employee3 = new Employee("3", "Jane Doe", 60000, 25, "Manager", "jane@company.com");
-        List<Employee> allEmployees = Arrays.asList(employee1, employee2, employee3);
+        List<Employee> matchingEmployees = Arrays.asList(employee1, employee2);
 
-        when(employeeService.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeService.searchEmployeesByName(searchString)).thenReturn(matchingEmployees);
 
         // When & Then
         mockMvc.perform(get("/api/v1/employee/search/{searchString}", searchString))
@@ -143,19 +205,14 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_name", containsStringIgnoringCase("john")))
                 .andExpect(jsonPath("$[1].employee_name", containsStringIgnoringCase("john")));
 
-        verify(employeeService).getAllEmployees();
+        verify(employeeService).searchEmployeesByName(searchString);
     }
 
     @Test
     @DisplayName("GET /api/v1/employee/highestSalary - Should return highest salary")
     void getHighestSalaryOfEmployees_Success() throws Exception {
         // Given
-        Employee employee1 = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
-        Employee employee2 = new Employee("2", "Jane Smith", 80000, 25, "Senior Developer", "jane@company.com");
-        Employee employee3 = new Employee("3", "Bob Johnson", 60000, 35, "Manager", "bob@company.com");
-        List<Employee> employees = Arrays.asList(employee1, employee2, employee3);
-
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getHighestSalary()).thenReturn(80000);
 
         // When & Then
         mockMvc.perform(get("/api/v1/employee/highestSalary"))
@@ -163,19 +220,25 @@ class EmployeeControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string("80000"));
 
-        verify(employeeService).getAllEmployees();
+        verify(employeeService).getHighestSalary();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employee/highestSalary - Should return 500 when service throws exception")
+    void getHighestSalaryOfEmployees_ServiceException() throws Exception {
+        // Given
+        when(employeeService.getHighestSalary()).thenThrow(new RuntimeException("Service error"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+                .andExpect(status().isInternalServerError());
     }
 
     @Test
     @DisplayName("GET /api/v1/employee/topTenHighestEarningEmployeeNames - Should return top earners")
     void getTopTenHighestEarningEmployeeNames_Success() throws Exception {
         // Given
-        Employee employee1 = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
-        Employee employee2 = new Employee("2", "Jane Smith", 80000, 25, "Senior Developer", "jane@company.com");
-        Employee employee3 = new Employee("3", "Bob Johnson", 60000, 35, "Manager", "bob@company.com");
-        List<Employee> employees = Arrays.asList(employee1, employee2, employee3);
-
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getTopEarnerNames(10)).thenReturn(Arrays.asList("Jane Smith", "Bob Johnson", "John Doe"));
 
         // When & Then
         mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
@@ -186,7 +249,7 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1]", is("Bob Johnson")))
                 .andExpect(jsonPath("$[2]", is("John Doe")));
 
-        verify(employeeService).getAllEmployees();
+        verify(employeeService).getTopEarnerNames(10);
     }
 
     @Test
@@ -256,6 +319,21 @@ class EmployeeControllerTest {
         verify(employeeService, never()).createEmployee(any(EmployeeInput.class));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/employee - Should return 400 for a title that is too long")
+    void createEmployee_TitleTooLong() throws Exception {
+        // Given
+        EmployeeInput input = new EmployeeInput("John Doe", 55000, 28, "A".repeat(EmployeeInput.MAX_TEXT_LENGTH + 1));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).createEmployee(any(EmployeeInput.class));
+    }
+
     @Test
     @DisplayName("POST /api/v1/employee - Should return 500 when service returns null")
     void createEmployee_ServiceReturnsNull() throws Exception {
@@ -279,8 +357,7 @@ class EmployeeControllerTest {
         String employeeId = "123";
         Employee employee = new Employee(employeeId, "John Doe", 50000, 30, "Developer", "john@company.com");
 
-        when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
-        when(employeeService.deleteEmployeeByName("John Doe")).thenReturn(true);
+        when(employeeService.deleteEmployeeById(employeeId)).thenReturn(employee);
 
         // When & Then
         mockMvc.perform(delete("/api/v1/employee/{id}", employeeId))
@@ -288,8 +365,9 @@ class EmployeeControllerTest {
                 .andExpect(content().contentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8"))
                 .andExpect(content().string("John Doe"));
 
-        verify(employeeService).getEmployeeById(employeeId);
-        verify(employeeService).deleteEmployeeByName("John Doe");
+        verify(employeeService).deleteEmployeeById(employeeId);
+        verify(employeeService, never()).getEmployeeById(anyString());
+        verify(employeeService, never()).deleteEmployeeByName(anyString());
     }
 
     @Test
@@ -297,14 +375,13 @@ class EmployeeControllerTest {
     void deleteEmployeeById_NotFound() throws Exception {
         // Given
         String employeeId = "999";
-        when(employeeService.getEmployeeById(employeeId)).thenReturn(null);
+        when(employeeService.deleteEmployeeById(employeeId)).thenReturn(null);
 
         // When & Then
         mockMvc.perform(delete("/api/v1/employee/{id}", employeeId))
                 .andExpect(status().isNotFound());
 
-        verify(employeeService).getEmployeeById(employeeId);
-        verify(employeeService, never()).deleteEmployeeByName(anyString());
+        verify(employeeService).deleteEmployeeById(employeeId);
     }
 
     @Test
@@ -312,16 +389,93 @@ class EmployeeControllerTest {
     void deleteEmployeeById_DeleteFails() throws Exception {
         // Given
         String employeeId = "123";
-        Employee employee = new Employee(employeeId, "John Doe", 50000, 30, "Developer", "john@company.com");
-
-        when(employeeService.getEmployeeById(employeeId)).thenReturn(employee);
-        when(employeeService.deleteEmployeeByName("John Doe")).thenReturn(false);
+        when(employeeService.deleteEmployeeById(employeeId)).thenThrow(new RuntimeException("Failed to delete"));
 
         // When & Then
         mockMvc.perform(delete("/api/v1/employee/{id}", employeeId))
                 .andExpect(status().isInternalServerError());
 
-        verify(employeeService).getEmployeeById(employeeId);
-        verify(employeeService).deleteEmployeeByName("John Doe");
+        verify(employeeService).deleteEmployeeById(employeeId);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/employee/batch - Should create all employees in one call")
+    void createEmployees_Success() throws Exception {
+        // Given
+        List<EmployeeInput> inputs = List.of(
+                new EmployeeInput("John Doe", 50000, 30, "Developer"),
+                new EmployeeInput("Jane Smith", 60000, 25, "Designer"));
+        List<Employee> created = List.of(
+                new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+                new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com"));
+        when(employeeService.createEmployees(inputs)).thenReturn(created);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is("1")))
+                .andExpect(jsonPath("$[1].employee_name", is("Jane Smith")));
+
+        verify(employeeService).createEmployees(inputs);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/employee/batch - Should answer 207 with the employees created when upstream fell short")
+    void createEmployees_PartiallyCreated() throws Exception {
+        // Given
+        List<EmployeeInput> inputs = List.of(
+                new EmployeeInput("John Doe", 50000, 30, "Developer"),
+                new EmployeeInput("Jane Smith", 60000, 25, "Designer"));
+        when(employeeService.createEmployees(inputs))
+                .thenReturn(List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com")));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].employee_name", is("John Doe")));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/employee/batch - Should reject the whole batch when one input is invalid")
+    void createEmployees_InvalidInput() throws Exception {
+        // Given
+        List<EmployeeInput> inputs = List.of(
+                new EmployeeInput("John Doe", 50000, 30, "Developer"),
+                new EmployeeInput("Jane Smith", 60000, 15, "Designer"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).createEmployees(any());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/employee/batch - Should report the outcome for each id")
+    void deleteEmployeesById_Success() throws Exception {
+        // Given
+        List<String> ids = List.of("1", "2");
+        when(employeeService.deleteEmployeesById(ids))
+                .thenReturn(List.of(new EmployeeDeletion("1", "John Doe", true), new EmployeeDeletion("2", null, false)));
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("John Doe")))
+                .andExpect(jsonPath("$[0].deleted", is(true)))
+                .andExpect(jsonPath("$[1].deleted", is(false)));
+
+        verify(employeeService, never()).deleteEmployeeByName(anyString());
     }
 }
@@ -0,0 +1,83 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Employee Roster Unit Tests")
+class EmployeeRosterTest {
+
+    private final Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+    private final Employee jane = new Employee("2", "Jane Smith", 80000, 25, "Manager", "jane@company.com");
+    private final Employee sparse = new Employee("3", null, null, null, null, null);
+
+    @Test
+    @DisplayName("Should read back every column, including missing values")
+    void of() {
+        // Given
+        EmployeeRoster roster = EmployeeRoster.of(Arrays.asList(john, sparse, jane));
+
+        // When & Then
+        assertEquals(3, roster.size());
+        assertColumns(List.of(john, sparse, jane), roster);
+        assertEquals(EmployeeRoster.NO_VALUE, roster.salary(1));
+        assertEquals(EmployeeRoster.NO_VALUE, roster.age(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> roster.name(3));
+    }
+
+    @Test
+    @DisplayName("Appending and removing rows should match a rebuild")
+    void withAndWithout_MatchRebuild() {
+        // Given
+        Random random = new Random(11);
+        String[] titles = {"Developer", "Manager", "Analyst", null};
+        List<Employee> employees = new ArrayList<>(List.of(john, sparse, jane));
+        EmployeeRoster roster = EmployeeRoster.of(employees);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            if (employees.isEmpty() || random.nextInt(3) > 0) {
+                Employee hire = new Employee(
+                        "n" + i,
+                        random.nextInt(5) == 0 ? null : "Hire " + i,
+                        random.nextInt(5) == 0 ? null : random.nextInt(100) * 1000,
+                        random.nextInt(5) == 0 ? null : 20 + random.nextInt(40),
+                        titles[random.nextInt(titles.length)],
+                        null);
+                employees.add(hire);
+                roster = roster.with(hire);
+            } else {
+                int row = random.nextInt(employees.size());
+                employees.remove(row);
+                roster = roster.without(row);
+            }
+        }
+
+        // Then
+        assertEquals(employees.size(), roster.size());
+        assertColumns(employees, roster);
+    }
+
+    private static void assertColumns(List<Employee> expected, EmployeeRoster roster) {
+        for (int row = 0; row < expected.size(); row++) {
+            Employee employee = expected.get(row);
+            assertEquals(employee.getEmployeeName(), roster.name(row));
+            assertEquals(employee.getEmployeeTitle(), roster.title(row));
+            assertEquals(employee.getEmployeeSalary() != null, roster.hasSalary(row));
+            assertEquals(employee.getEmployeeAge() != null, roster.hasAge(row));
+            if (employee.getEmployeeSalary() != null) {
+                assertEquals(employee.getEmployeeSalary().intValue(), roster.salary(row));
+            }
+            if (employee.getEmployeeAge() != null) {
+                assertEquals(employee.getEmployeeAge().intValue(), roster.age(row));
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Name Index Unit Tests")
+class NameIndexTest {
+
+    private final Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+    private final Employee johnny = new Employee("2", "Johnny Smith", 55000, 28, "Designer", "johnny@company.com");
+    private final Employee jane = new Employee("3", "Jane Doe", 60000, 25, "Manager", "jane@company.com");
+    private final Employee nameless = new Employee("4", null, 60000, 25, "Manager", "none@company.com");
+
+    @Test
+    @DisplayName("Should find employees by substring ignoring case, in roster order")
+    void search() {
+        // Given
+        NameIndex index = NameIndex.of(Arrays.asList(john, nameless, johnny, jane));
+
+        // When & Then
+        assertEquals(List.of(john, johnny), index.search("JOHN"));
+        assertEquals(List.of(john, jane), index.search("doe"));
+        assertEquals(List.of(johnny), index.search("nny sm"));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should scan for queries shorter than a trigram")
+    void search_ShortQuery() {
+        // Given
+        NameIndex index = NameIndex.of(Arrays.asList(john, nameless, johnny, jane));
+
+        // When & Then
+        assertEquals(List.of(john, johnny, jane), index.search("J"));
+        assertEquals(List.of(john, jane), index.search("oe"));
+        assertEquals(List.of(john, johnny, jane), index.search(""));
+    }
+
+    @Test
+    @DisplayName("Should index created employees and drop deleted ones")
+    void withAndWithout() {
+        // Given
+        NameIndex index = NameIndex.of(Arrays.asList(john, jane));
+
+        // When
+        NameIndex created = index.with(johnny);
+        NameIndex deleted = created.without(john);
+
+        // Then
+        assertEquals(List.of(john, johnny), created.search("john"));
+        assertEquals(List.of(johnny), deleted.search("john"));
+        assertEquals(List.of(jane), deleted.search("doe"));
+        assertEquals(List.of(john), index.search("john"));
+    }
+
+    @Test
+    @DisplayName("Should return the same results as a full scan")
+    void search_MatchesScan() {
+        // Given
+        Random random = new Random(7);
+        String[] parts = {"Tiger", "Nixon", "Bill", "Bob", "Jill", "Jenkins", "Ann", "Annabel", "Zo\u00eb", "\u00d8degaard"};
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name = parts[random.nextInt(parts.length)] + " " + parts[random.nextInt(parts.length)];
+            roster.add(new Employee(String.valueOf(i), name, 1000, 30, "Title", null));
+        }
+        NameIndex index = NameIndex.of(roster);
+        for (int i = 0; i < 100; i++) {
+            Employee victim = roster.remove(random.nextInt(roster.size()));
+            index = index.without(victim);
+            Employee hire = new Employee("n" + i, parts[random.nextInt(parts.length)] + " Hire", 1000, 30, "Title", null);
+            roster.add(hire);
+            index = index.with(hire);
+        }
+
+        // When & Then
+        for (String query : List.of("an", "ANN", "bill bob", "n n", "ZO\u00cb", "\u00f8deg", "hire", "kins ti", "q")) {
+            List<Employee> expected = roster.stream()
+                    .filter(employee -> employee.getEmployeeName().toLowerCase().contains(query.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(query), query);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.roster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel Scan Unit Tests")
+class ParallelScanTest {
+
+    @Test
+    @DisplayName("Should filter in order on both sides of the sequential threshold")
+    void filter() {
+        for (int size : new int[] {10, ParallelScan.SEQUENTIAL_THRESHOLD * 20 + 7}) {
+            // Given
+            Integer[] elements = new Integer[size];
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements[i] = i;
+                if (i % 3 == 0) {
+                    expected.add("#" + i);
+                }
+            }
+
+            // When
+            List<String> matches = ParallelScan.filter(elements, element -> element % 3 == 0, element -> "#" + element);
+
+            // Then
+            assertEquals(expected, matches);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort the leading keys like Arrays.sort and leave the rest alone")
+    void sort() {
+        // Given
+        Random random = new Random(5);
+        int count = ParallelScan.SEQUENTIAL_THRESHOLD * 20 + 3;
+        long[] keys = new long[count + 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(1000) - 500L;
+        }
+        long[] expected = keys.clone();
+        Arrays.sort(expected, 0, count);
+
+        // When
+        ParallelScan.sort(keys, count);
+
+        // Then
+        assertArrayEquals(expected, keys);
+    }
+}
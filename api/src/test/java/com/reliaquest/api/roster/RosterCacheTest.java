@@ -0,0 +1,290 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Roster Cache Unit Tests")
+class RosterCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("Should serve cached roster within TTL")
+    void get_WithinTtl() {
+        // Given
+        CountingLoader loader = new CountingLoader();
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+
+        // When
+        RosterSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(29));
+        RosterSnapshot second = cache.get();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should reload roster once TTL has elapsed")
+    void get_AfterTtl() {
+        // Given
+        CountingLoader loader = new CountingLoader();
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+        cache.get();
+
+        // When
+        clock.advance(TTL);
+        cache.get();
+
+        // Then
+        assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should reload roster after invalidation")
+    void get_AfterInvalidate() {
+        // Given
+        CountingLoader loader = new CountingLoader();
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+        cache.get();
+
+        // When
+        cache.invalidate();
+        cache.get();
+
+        // Then
+        assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failures on a cold cache")
+    void get_LoaderFails() {
+        // Given
+        RosterCache cache = new RosterCache(() -> {
+            throw new RuntimeException("Failed to fetch employees");
+        }, TTL, clock);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, cache::get);
+        assertEquals("Failed to fetch employees", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the stale roster when a refresh fails")
+    void get_RefreshFails() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        RosterCache cache = new RosterCache(() -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new RuntimeException("Failed to fetch employees");
+            }
+            return roster();
+        }, TTL, clock);
+        RosterSnapshot stale = cache.get();
+
+        // When
+        clock.advance(TTL);
+        RosterSnapshot first = cache.get();
+        RosterSnapshot second = cache.get();
+
+        // Then
+        assertSame(stale, first);
+        assertSame(stale, second);
+        assertEquals(3, calls.get());
+        assertSame(stale, cache.peek().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should let a single caller load a cold cache while others wait")
+    void get_ColdCacheSingleFlight() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingLoader loader = new BlockingLoader(release);
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            List<Future<RosterSnapshot>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(cache::get));
+            }
+            assertTrue(loader.started.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            // Then
+            for (Future<RosterSnapshot> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).employees().size());
+            }
+            assertEquals(1, loader.calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve stale roster while another caller refreshes it")
+    void get_StaleWhileRefreshing() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingLoader loader = new BlockingLoader(release);
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+        release.countDown();
+        RosterSnapshot stale = cache.get();
+
+        CountDownLatch refreshRelease = new CountDownLatch(1);
+        loader.reset(refreshRelease);
+        clock.advance(TTL);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // When
+            Future<RosterSnapshot> refreshing = executor.submit(cache::get);
+            assertTrue(loader.started.await(5, TimeUnit.SECONDS));
+            RosterSnapshot servedDuringRefresh = cache.get();
+            refreshRelease.countDown();
+
+            // Then
+            assertSame(stale, servedDuringRefresh);
+            assertNotSame(stale, refreshing.get(5, TimeUnit.SECONDS));
+            assertEquals(2, loader.calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply local changes to the cached snapshot without reloading")
+    void apply_UpdatesCachedSnapshot() {
+        // Given
+        CountingLoader loader = new CountingLoader();
+        RosterCache cache = new RosterCache(loader, TTL, clock);
+        cache.get();
+        Employee created = new Employee("2", "Jane Smith", 90000, 25, "Designer", "jane@company.com");
+
+        // When
+        cache.apply(snapshot -> snapshot.withEmployee(created));
+        RosterSnapshot updated = cache.get();
+
+        // Then
+        assertEquals(2, updated.employees().size());
+        assertEquals(90000, updated.highestSalary());
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot and its version when the loader reports the roster unchanged")
+    void get_UnchangedKeepsVersion() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        RosterCache cache = new RosterCache(current -> {
+            calls.incrementAndGet();
+            return current != null ? current : RosterSnapshot.of(roster());
+        }, TTL, clock);
+        RosterSnapshot loaded = cache.get();
+
+        // When
+        clock.advance(TTL);
+        RosterSnapshot revalidated = cache.get();
+        cache.apply(snapshot -> snapshot.withEmployee(
+                new Employee("2", "Jane Smith", 90000, 25, "Designer", "jane@company.com")));
+        RosterSnapshot changed = cache.get();
+
+        // Then
+        assertSame(loaded, revalidated);
+        assertEquals(2, calls.get());
+        assertTrue(changed.version() > loaded.version());
+    }
+
+    private static List<Employee> roster() {
+        return List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"));
+    }
+
+    private static class CountingLoader implements Supplier<List<Employee>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public List<Employee> get() {
+            calls.incrementAndGet();
+            return roster();
+        }
+    }
+
+    private static class BlockingLoader implements Supplier<List<Employee>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+
+        BlockingLoader(CountDownLatch release) {
+            this.release = release;
+        }
+
+        void reset(CountDownLatch release) {
+            this.started = new CountDownLatch(1);
+            this.release = release;
+        }
+
+        @Override
+        public List<Employee> get() {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return roster();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
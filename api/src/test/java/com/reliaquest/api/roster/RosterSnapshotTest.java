@@ -0,0 +1,249 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Roster Snapshot Unit Tests")
+class RosterSnapshotTest {
+
+    private final Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+    private final Employee jane = new Employee("2", "Jane Smith", 80000, 25, "Senior Developer", "jane@company.com");
+    private final Employee bob = new Employee("3", "Bob Johnson", 60000, 35, "Manager", "bob@company.com");
+    private final Employee unpaid = new Employee("4", "No Salary", null, 40, "Volunteer", "none@company.com");
+
+    @Test
+    @DisplayName("Should compute highest salary ignoring employees without salary")
+    void highestSalary() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, unpaid, jane, bob));
+
+        // When & Then
+        assertEquals(80000, snapshot.highestSalary());
+    }
+
+    @Test
+    @DisplayName("Should return zero as highest salary for an empty roster")
+    void highestSalary_EmptyRoster() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(List.of());
+
+        // When & Then
+        assertEquals(0, snapshot.highestSalary());
+        assertTrue(snapshot.topEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return top earners highest first")
+    void topEarnerNames() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, unpaid, jane, bob));
+
+        // When
+        List<String> names = snapshot.topEarnerNames(10);
+
+        // Then
+        assertEquals(List.of("Jane Smith", "Bob Johnson", "John Doe"), names);
+        assertEquals(List.of("Jane Smith"), snapshot.topEarnerNames(1));
+    }
+
+    @Test
+    @DisplayName("Should keep roster order for employees sharing a salary")
+    void topEarnerNames_Ties() {
+        // Given
+        Employee twin = new Employee("5", "Jane Twin", 80000, 25, "Senior Developer", "twin@company.com");
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(jane, twin));
+        Employee triplet = new Employee("6", "Jane Triplet", 80000, 25, "Senior Developer", "triplet@company.com");
+
+        // When
+        RosterSnapshot updated = snapshot.withEmployee(triplet);
+
+        // Then
+        assertEquals(List.of("Jane Smith", "Jane Twin", "Jane Triplet"), updated.topEarnerNames(10));
+    }
+
+    @Test
+    @DisplayName("Should update aggregates incrementally on create")
+    void withEmployee() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, jane));
+
+        // When
+        Employee created = new Employee("7", "New Hire", 90000, 28, "Analyst", "new@company.com");
+        RosterSnapshot updated = snapshot.withEmployee(created);
+
+        // Then
+        assertEquals(3, updated.employees().size());
+        assertEquals(90000, updated.highestSalary());
+        assertEquals(List.of("New Hire", "Jane Smith", "John Doe"), updated.topEarnerNames(10));
+        assertEquals(80000, snapshot.highestSalary());
+    }
+
+    @Test
+    @DisplayName("Should remove first employee matching name ignoring case on delete")
+    void withoutEmployeeNamed() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, jane, bob));
+
+        // When
+        RosterSnapshot updated = snapshot.withoutEmployeeNamed("jane smith");
+
+        // Then
+        assertEquals(List.of(john, bob), updated.employees());
+        assertEquals(60000, updated.highestSalary());
+        assertEquals(List.of("Bob Johnson", "John Doe"), updated.topEarnerNames(10));
+    }
+
+    @Test
+    @DisplayName("Should keep the id index in step with creates and deletes")
+    void findById() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, jane));
+        Employee created = new Employee("7", "New Hire", 90000, 28, "Analyst", "new@company.com");
+
+        // When
+        RosterSnapshot updated = snapshot.withEmployee(created).withoutEmployeeNamed("John Doe");
+
+        // Then
+        assertSame(jane, updated.findById("2").orElseThrow());
+        assertSame(created, updated.findById("7").orElseThrow());
+        assertTrue(updated.findById("1").isEmpty());
+        assertSame(john, snapshot.findById("1").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should leave snapshot untouched when deleting an unknown name")
+    void withoutEmployeeNamed_Unknown() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, jane));
+
+        // When & Then
+        assertSame(snapshot, snapshot.withoutEmployeeNamed("Nobody"));
+    }
+
+    @Test
+    @DisplayName("Should replay upstream changes and skip ones already applied")
+    void withChanges() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(Arrays.asList(john, jane));
+
+        // When
+        RosterSnapshot updated = snapshot.withChanges(List.of(
+                new EmployeeChange(4, EmployeeChange.Type.CREATED, bob),
+                new EmployeeChange(5, EmployeeChange.Type.CREATED, jane),
+                new EmployeeChange(6, EmployeeChange.Type.DELETED, john),
+                new EmployeeChange(7, EmployeeChange.Type.DELETED, john)));
+
+        // Then
+        assertEquals(List.of(jane, bob), updated.employees());
+        assertTrue(updated.findById("1").isEmpty());
+        assertEquals(80000, updated.highestSalary());
+        assertEquals(List.of(bob), updated.searchByName("bob"));
+    }
+
+    @Test
+    @DisplayName("Incremental updates should match a full rebuild")
+    void incrementalMatchesRebuild() {
+        // Given
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(new Employee(String.valueOf(i), "Employee " + i, random.nextInt(20) * 1000, 30, "Title", null));
+        }
+        RosterSnapshot snapshot = RosterSnapshot.of(roster);
+
+        // When
+        for (int i = 200; i < 300; i++) {
+            if (random.nextBoolean()) {
+                snapshot = snapshot.withEmployee(
+                        new Employee(String.valueOf(i), "Employee " + i, random.nextInt(20) * 1000, 30, "Title", null));
+            } else {
+                snapshot = snapshot.withoutEmployeeNamed("Employee " + random.nextInt(i));
+            }
+        }
+
+        // Then
+        List<String> expected = snapshot.employees().stream()
+                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+        assertEquals(expected, snapshot.topEarnerNames(10));
+        assertEquals(RosterSnapshot.of(snapshot.employees()).topEarnerNames(300), snapshot.topEarnerNames(300));
+    }
+
+    @Test
+    @DisplayName("Large batch updates should match applying them one at a time")
+    void batchMatchesIncremental() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(List.of(john, jane, bob)).withVersion(7);
+        List<Employee> added = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            added.add(new Employee(String.valueOf(100 + i), "Employee " + (i % 5), 1000 * i, 30, "Title", null));
+        }
+        List<String> deleted = new ArrayList<>(List.of("101", "106", "101", "1", "Nobody"));
+        for (int i = 110; i < 116; i++) {
+            deleted.add(String.valueOf(i));
+        }
+
+        // When
+        RosterSnapshot batched = snapshot.withEmployees(added).withoutEmployeeIds(deleted);
+        RosterSnapshot incremental = snapshot;
+        for (Employee employee : added) {
+            incremental = incremental.withEmployee(employee);
+        }
+        for (String id : deleted) {
+            incremental = incremental.withoutEmployeeId(id);
+        }
+
+        // Then
+        assertEquals(7, batched.version());
+        assertEquals(incremental.employees(), batched.employees());
+        assertEquals(incremental.topEarnerNames(30), batched.topEarnerNames(30));
+        assertEquals(incremental.searchByName("employee"), batched.searchByName("employee"));
+        assertTrue(batched.findById("1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Replaying a large change feed should match replaying it one change at a time")
+    void withChanges_LargeBatchMatchesIncremental() {
+        // Given
+        RosterSnapshot snapshot = RosterSnapshot.of(List.of(john, jane, bob)).withVersion(3);
+        List<EmployeeChange> changes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Employee hire = new Employee(String.valueOf(100 + i), "Hire " + i, 1000 * i, 30, "Title", null);
+            changes.add(new EmployeeChange(10 + i, EmployeeChange.Type.CREATED, hire));
+            if (i % 3 == 0) {
+                changes.add(new EmployeeChange(50 + i, EmployeeChange.Type.DELETED, hire));
+            }
+        }
+        changes.add(new EmployeeChange(80, EmployeeChange.Type.CREATED, jane));
+        changes.add(new EmployeeChange(81, EmployeeChange.Type.DELETED, john));
+        changes.add(new EmployeeChange(82, EmployeeChange.Type.DELETED, john));
+
+        // When
+        RosterSnapshot batched = snapshot.withChanges(changes);
+        RosterSnapshot incremental = snapshot;
+        for (EmployeeChange change : changes) {
+            incremental = incremental.withChanges(List.of(change));
+        }
+
+        // Then
+        assertEquals(3, batched.version());
+        assertEquals(incremental.employees(), batched.employees());
+        assertEquals(incremental.topEarnerNames(20), batched.topEarnerNames(20));
+        assertEquals(incremental.searchByName("hire"), batched.searchByName("hire"));
+        assertTrue(batched.findById("1").isEmpty());
+        assertTrue(batched.findById("103").isEmpty());
+    }
+}
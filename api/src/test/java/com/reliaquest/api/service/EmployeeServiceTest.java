@@ -1,8 +1,14 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.client.UpstreamThrottledException;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ChangeFeed;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeDeletion;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.model.EmployeePage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,12 +18,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +133,82 @@ class EmployeeServiceTest {
         assertTrue(exception.getCause() instanceof RestClientException);
     }
 
+    @Test
+    @DisplayName("Should revalidate the roster with its entity tag and keep it when upstream answers 304")
+    void getAllEmployees_NotModifiedUpstream() {
+        // Given
+        employeeService = new EmployeeService(new RestTemplateEmployeeClient(restTemplate, baseUrl), Duration.ZERO);
+        List<Employee> employees =
+            List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("W/\"upstream-1\"");
+
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(employees, "success"), headers, HttpStatus.OK));
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            argThat((HttpEntity<?> entity) -> entity != null
+                && "W/\"upstream-1\"".equals(entity.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED));
+
+        // When
+        String firstTag = employeeService.getRosterETag();
+        List<Employee> first = employeeService.getAllEmployees();
+        List<Employee> second = employeeService.getAllEmployees();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(firstTag, employeeService.getRosterETag());
+        assertTrue(firstTag.startsWith("W/\""));
+    }
+
+    @Test
+    @DisplayName("Should refresh the roster from the upstream change feed instead of reloading it")
+    void getAllEmployees_ReplaysChangeFeed() {
+        // Given
+        employeeService = new EmployeeService(new RestTemplateEmployeeClient(restTemplate, baseUrl), Duration.ZERO);
+        Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        Employee jane = new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Change-Cursor", "epoch:7");
+        ChangeFeed feed = new ChangeFeed("epoch", 9, List.of(
+            new EmployeeChange(8, EmployeeChange.Type.CREATED, jane),
+            new EmployeeChange(9, EmployeeChange.Type.DELETED, john)));
+
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(john), "success"), headers, HttpStatus.OK));
+        when(restTemplate.exchange(
+            eq(baseUrl + "/changes?since=7"),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(feed, "success"), HttpStatus.OK));
+
+        // When
+        List<Employee> first = employeeService.getAllEmployees();
+        List<Employee> second = employeeService.getAllEmployees();
+
+        // Then
+        assertEquals(List.of(john), first);
+        assertEquals(List.of(jane), second);
+        verify(restTemplate, times(1)).exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
     @Test
     @DisplayName("Should get employee by ID successfully")
     void getEmployeeById_Success() {
@@ -321,4 +411,307 @@ class EmployeeServiceTest {
         assertEquals("Failed to delete employee", exception.getMessage());
         assertTrue(exception.getCause() instanceof RestClientException);
     }
+
+    @Test
+    @DisplayName("Should delete by id with one upstream call")
+    void deleteEmployeeById_Success() {
+        // Given
+        String employeeId = "123";
+        Employee employee = new Employee(employeeId, "John Doe", 50000, 30, "Developer", "john@company.com");
+        ResponseEntity<ApiResponse<Employee>> responseEntity =
+            new ResponseEntity<>(new ApiResponse<>(employee, "success"), HttpStatus.OK);
+
+        when(restTemplate.exchange(
+            eq(baseUrl + "/" + employeeId),
+            eq(HttpMethod.DELETE),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(responseEntity);
+
+        // When
+        Employee result = employeeService.deleteEmployeeById(employeeId);
+
+        // Then
+        assertEquals(employee, result);
+        verify(restTemplate, times(1)).exchange(
+            anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("Should return null when there is no employee with the id to delete")
+    void deleteEmployeeById_NotFound() {
+        // Given
+        String employeeId = "999";
+        when(restTemplate.exchange(
+            eq(baseUrl + "/" + employeeId),
+            eq(HttpMethod.DELETE),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenThrow(HttpClientErrorException.create(
+            HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+
+        // When
+        Employee result = employeeService.deleteEmployeeById(employeeId);
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("Should delete a batch of ids with one upstream call and update the cached roster")
+    void deleteEmployeesById_Batch() {
+        // Given
+        String johnId = "9b0e3c1a-6f55-4a8e-8d1c-2f7a4b3e5d60";
+        Employee john = new Employee(johnId, "John Doe", 50000, 30, "Developer", "john@company.com");
+        Employee jane = new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com");
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(john, jane), "success"), HttpStatus.OK));
+        when(restTemplate.exchange(
+            eq(baseUrl + "/batch/ids"),
+            eq(HttpMethod.DELETE),
+            any(HttpEntity.class),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(john), "success"), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        // When
+        List<EmployeeDeletion> result = employeeService.deleteEmployeesById(List.of(johnId, "unknown"));
+
+        // Then
+        assertEquals(
+            List.of(new EmployeeDeletion(johnId, "John Doe", true), new EmployeeDeletion("unknown", null, false)),
+            result);
+        assertEquals(List.of(jane), employeeService.getAllEmployees());
+
+        ArgumentCaptor<HttpEntity> requestCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(
+            eq(baseUrl + "/batch/ids"),
+            eq(HttpMethod.DELETE),
+            requestCaptor.capture(),
+            any(ParameterizedTypeReference.class)
+        );
+        assertEquals(List.of(johnId), requestCaptor.getValue().getBody());
+        verify(restTemplate, never()).exchange(
+            eq(baseUrl + "/batch"),
+            eq(HttpMethod.DELETE),
+            any(HttpEntity.class),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should delete exactly the listed ids in a batch and keep their namesakes cached")
+    void deleteEmployeesById_BatchNamesake() {
+        // Given
+        String firstId = "3d2f6a8e-1b4c-4e9a-a7d0-5c8b9e1f2a30";
+        String secondId = "7e5a9c1d-2f3b-4d8e-b6a4-0c1d2e3f4a50";
+        Employee first = new Employee(firstId, "John Doe", 50000, 30, "Developer", "j1@company.com");
+        Employee second = new Employee(secondId, "John Doe", 60000, 40, "Manager", "j2@company.com");
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(first, second), "success"), HttpStatus.OK));
+        when(restTemplate.exchange(
+            eq(baseUrl + "/batch/ids"),
+            eq(HttpMethod.DELETE),
+            any(HttpEntity.class),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(second), "success"), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        // When
+        List<EmployeeDeletion> result = employeeService.deleteEmployeesById(List.of(secondId));
+
+        // Then
+        assertEquals(List.of(new EmployeeDeletion(secondId, "John Doe", true)), result);
+        assertEquals(List.of(first), employeeService.getAllEmployees());
+    }
+
+    @Test
+    @DisplayName("Should create a batch with one upstream call")
+    void createEmployees_Batch() {
+        // Given
+        List<EmployeeInput> inputs = List.of(
+            new EmployeeInput("John Doe", 50000, 30, "Developer"),
+            new EmployeeInput("Jane Smith", 60000, 25, "Designer"));
+        List<Employee> created = List.of(
+            new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com"),
+            new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com"));
+        when(restTemplate.exchange(
+            eq(baseUrl + "/batch"),
+            eq(HttpMethod.POST),
+            any(HttpEntity.class),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(created, "success"), HttpStatus.OK));
+
+        // When
+        List<Employee> result = employeeService.createEmployees(inputs);
+
+        // Then
+        assertEquals(created, result);
+        verify(restTemplate, never()).exchange(
+            eq(baseUrl),
+            eq(HttpMethod.POST),
+            any(HttpEntity.class),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should ask upstream for the top earners' names only when the roster is not cached")
+    void getTopEarnerNames_PushedDown() {
+        // Given
+        EmployeePage page = new EmployeePage(
+            List.of(new Employee(null, "Jane Smith", null, null, null, null),
+                new Employee(null, "John Doe", null, null, null, null)),
+            null);
+        when(restTemplate.exchange(
+            any(URI.class),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(page, "success"), HttpStatus.OK));
+
+        // When
+        List<String> result = employeeService.getTopEarnerNames(2);
+
+        // Then
+        assertEquals(List.of("Jane Smith", "John Doe"), result);
+        verify(restTemplate).exchange(
+            eq(URI.create(baseUrl + "?sort=-salary&limit=2&fields=name")),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        );
+        verify(restTemplate, never()).exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should search the roster when the upstream query fails")
+    void searchEmployeesByName_QueryFallsBackToRoster() {
+        // Given
+        Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        Employee jane = new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com");
+        when(restTemplate.exchange(
+            any(URI.class),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenThrow(new RestClientException("Connection failed"));
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(new ApiResponse<>(List.of(john, jane), "success"), HttpStatus.OK));
+
+        // When
+        List<Employee> result = employeeService.searchEmployeesByName("jane");
+
+        // Then
+        assertEquals(List.of(jane), result);
+    }
+
+    @Test
+    @DisplayName("Should refresh an expired roster once and answer later reads from the cache")
+    void searchEmployeesByName_ExpiredRosterRefreshedOnce() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        employeeService = new EmployeeService(
+            new RestTemplateEmployeeClient(restTemplate, baseUrl), Duration.ofSeconds(30), clock);
+        Employee john = new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com");
+        Employee jane = new Employee("2", "Jane Smith", 60000, 25, "Designer", "jane@company.com");
+        when(restTemplate.exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenReturn(
+            new ResponseEntity<>(new ApiResponse<>(List.of(john), "success"), HttpStatus.OK),
+            new ResponseEntity<>(new ApiResponse<>(List.of(john, jane), "success"), HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+        List<Employee> refreshed = employeeService.searchEmployeesByName("jane");
+        int highestSalary = employeeService.getHighestSalary();
+        List<String> topEarners = employeeService.getTopEarnerNames(1);
+
+        // Then
+        assertEquals(List.of(jane), refreshed);
+        assertEquals(60000, highestSalary);
+        assertEquals(List.of("Jane Smith"), topEarners);
+        verify(restTemplate, times(2)).exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        );
+        verify(restTemplate, never()).exchange(
+            any(URI.class),
+            any(HttpMethod.class),
+            any(),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    @DisplayName("Should not load the roster when the upstream query is throttled")
+    void getHighestSalary_QueryThrottled() {
+        // Given
+        when(restTemplate.exchange(
+            any(URI.class),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        )).thenThrow(new UpstreamThrottledException("Too many requests", Duration.ofSeconds(1)));
+
+        // When & Then
+        assertThrows(UpstreamThrottledException.class, () -> employeeService.getHighestSalary());
+        verify(restTemplate, never()).exchange(
+            eq(baseUrl),
+            eq(HttpMethod.GET),
+            isNull(),
+            any(ParameterizedTypeReference.class)
+        );
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
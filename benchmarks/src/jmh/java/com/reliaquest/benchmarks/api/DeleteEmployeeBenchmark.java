@@ -0,0 +1,122 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.benchmarks.support.Rosters;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Latency of deleting {@code batchSize} employees by id when every upstream exchange costs a fixed round-trip.
+ * {@code single} issues {@code DELETE /api/v1/employee/{id}} once per id; {@code batch} issues one
+ * {@code DELETE /api/v1/employee/batch}. Both delete by id upstream, so neither reads the roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeleteEmployeeBenchmark {
+
+    private static final int ROSTER_SIZE = 1000;
+
+    @Param({"single", "batch"})
+    private String path;
+
+    @Param({"10"})
+    private int batchSize;
+
+    @Param({"1"})
+    private int upstreamLatencyMillis;
+
+    private List<Employee> roster;
+    private LatencyRestTemplate restTemplate;
+    private EmployeeController controller;
+    private List<String> ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        roster = Rosters.generate(ROSTER_SIZE, 42L);
+        restTemplate = new LatencyRestTemplate(roster, Duration.ofMillis(upstreamLatencyMillis));
+        final var employeeService = new EmployeeService(
+                new RestTemplateEmployeeClient(restTemplate, "http://localhost:8112/api/v1/employee"),
+                Duration.ofDays(1));
+        controller = new EmployeeController(employeeService);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        ids = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ids.add(roster.get(next++ % ROSTER_SIZE).getId());
+        }
+    }
+
+    @Benchmark
+    public Object deleteById() {
+        if (path.equals("batch")) {
+            return controller.deleteEmployeesById(ids);
+        }
+        final var names = new ArrayList<ResponseEntity<String>>(ids.size());
+        for (final var id : ids) {
+            names.add(controller.deleteEmployeeById(id));
+        }
+        return names;
+    }
+
+    /**
+     * Answers every delete by id with the employees asked for, parking for the configured latency on each exchange.
+     * The roster is never changed, so each invocation can delete any employee again.
+     */
+    private static class LatencyRestTemplate extends RestTemplate {
+
+        private static final String STATUS = "Successfully processed request.";
+
+        private final Map<String, Employee> byId;
+        private final long latencyNanos;
+
+        LatencyRestTemplate(List<Employee> roster, Duration latency) {
+            this.byId = roster.stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+            this.latencyNanos = latency.toNanos();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(
+                String url,
+                HttpMethod method,
+                HttpEntity<?> requestEntity,
+                ParameterizedTypeReference<T> responseType,
+                Object... uriVariables) {
+            LockSupport.parkNanos(latencyNanos);
+            if (url.endsWith("/batch/ids")) {
+                final var deleted = ((List<String>) requestEntity.getBody()).stream().map(byId::get).toList();
+                return (ResponseEntity<T>) ResponseEntity.ok(new ApiResponse<>(deleted, STATUS));
+            }
+            final var id = url.substring(url.lastIndexOf('/') + 1);
+            return (ResponseEntity<T>) ResponseEntity.ok(new ApiResponse<>(byId.get(id), STATUS));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.client.WebClientEmployeeClient;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.benchmarks.support.StubHttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Load test of the two {@link EmployeeClient} modes: each operation issues {@code concurrentRequests} lookups against
+ * an upstream that answers after {@code upstreamLatencyMillis}, and both modes get the same {@code threadBudget}.
+ * The blocking client runs its calls on a pool of that many threads; the reactive client gets that many event-loop
+ * threads and no caller pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EmployeeClientLoadBenchmark {
+
+    private static final String EMPLOYEE_ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    @Param({"16"})
+    private int threadBudget;
+
+    @Param({"50"})
+    private int upstreamLatencyMillis;
+
+    private StubHttpServer server;
+    private EmployeeClient client;
+    private ExecutorService callers;
+    private CloseableHttpClient httpClient;
+    private LoopResources loops;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var employee = Rosters.generate(1, 42L).get(0);
+        final var payload =
+                new ObjectMapper().writeValueAsBytes(new ApiResponse<>(employee, "Successfully processed request."));
+        server = StubHttpServer.start(payload, concurrentRequests + 64, Duration.ofMillis(upstreamLatencyMillis));
+        final var baseUrl = server.url("/api/v1/employee");
+
+        if ("reactive".equals(mode)) {
+            loops = LoopResources.create("load-test", threadBudget, true);
+            final var connectionProvider = ConnectionProvider.builder("load-test")
+                    .maxConnections(concurrentRequests)
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            final var webClient = WebClient.builder()
+                    .baseUrl(baseUrl)
+                    .clientConnector(
+                            new ReactorClientHttpConnector(HttpClient.create(connectionProvider).runOn(loops)))
+                    .build();
+            client = new WebClientEmployeeClient(webClient);
+        } else {
+            callers = Executors.newFixedThreadPool(threadBudget);
+            final var config = new RestTemplateConfig();
+            httpClient = config.upstreamHttpClient(new HttpClientProperties(
+                    concurrentRequests,
+                    concurrentRequests,
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(10),
+                    Duration.ofSeconds(10),
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(60)));
+            client = new RestTemplateEmployeeClient(
+                    config.restTemplate(httpClient, new SimpleMeterRegistry()), baseUrl);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (loops != null) {
+            loops.dispose();
+        }
+        server.close();
+    }
+
+    @Benchmark
+    public int concurrentLookups() {
+        final var calls = new CompletableFuture<?>[concurrentRequests];
+        for (int i = 0; i < concurrentRequests; i++) {
+            calls[i] = callers == null
+                    ? client.getEmployeeById(EMPLOYEE_ID)
+                    : CompletableFuture.supplyAsync(() -> client.getEmployeeById(EMPLOYEE_ID).join(), callers);
+        }
+        CompletableFuture.allOf(calls).join();
+        return calls.length;
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.client.RestTemplateEmployeeClient;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.benchmarks.support.StubRestTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Drives the read endpoints of {@link EmployeeController} against a warm roster cache backed by a stubbed upstream,
+ * so the numbers cover the controller and service work per request and nothing on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeControllerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeController controller;
+
+    @Setup
+    public void setUp() {
+        final var employeeClient = new RestTemplateEmployeeClient(
+                new StubRestTemplate(Rosters.generate(rosterSize, 42L)), "http://localhost:8112/api/v1/employee");
+        final var employeeService = new EmployeeService(employeeClient, Duration.ofDays(1));
+        controller = new EmployeeController(employeeService);
+        controller.getAllEmployees();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Employee>> searchSelective() {
+        return controller.getEmployeesByNameSearch("nixon 4242");
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Employee>> searchBroad() {
+        return controller.getEmployeesByNameSearch("jill");
+    }
+
+    @Benchmark
+    public ResponseEntity<Integer> highestSalary() {
+        return controller.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<String>> topTen() {
+        return controller.getTopTenHighestEarningEmployeeNames();
+    }
+}
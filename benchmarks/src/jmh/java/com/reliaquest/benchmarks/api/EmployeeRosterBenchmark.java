@@ -0,0 +1,127 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.SalaryIndex;
+import com.reliaquest.benchmarks.support.Rosters;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans and ranks a 1M employee roster held as {@code List<Employee>}, the way the api received it, and as the
+ * columnar {@link EmployeeRoster} its salary aggregates now run over. The {@code retainedBytes} counter is the heap
+ * each representation retains, measured after a full GC in setup; the object graph also holds ids and emails, which
+ * the columns leave out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeRosterBenchmark {
+
+    @Param({"1000000"})
+    private int rosterSize;
+
+    private List<Employee> employees;
+    private EmployeeRoster roster;
+    private long objectBytes;
+    private long columnBytes;
+
+    @Setup
+    public void setUp() {
+        final long empty = usedHeap();
+        employees = Rosters.generate(rosterSize, 42L);
+        final long withObjects = usedHeap();
+        roster = EmployeeRoster.of(employees);
+        objectBytes = withObjects - empty;
+        columnBytes = usedHeap() - withObjects;
+    }
+
+    /*
+     * Highest salary and total age in one pass, unboxing both through each employee.
+     */
+    @Benchmark
+    public long scanObjects(Footprint footprint) {
+        footprint.retainedBytes = objectBytes;
+        int highest = 0;
+        long ages = 0;
+        for (final var employee : employees) {
+            if (employee.getEmployeeSalary() != null) {
+                highest = Math.max(highest, employee.getEmployeeSalary());
+            }
+            if (employee.getEmployeeAge() != null) {
+                ages += employee.getEmployeeAge();
+            }
+        }
+        return highest + ages;
+    }
+
+    @Benchmark
+    public long scanColumns(Footprint footprint) {
+        footprint.retainedBytes = columnBytes;
+        int highest = 0;
+        long ages = 0;
+        for (int row = 0; row < roster.size(); row++) {
+            highest = Math.max(highest, roster.salary(row));
+            final int age = roster.age(row);
+            if (age != EmployeeRoster.NO_VALUE) {
+                ages += age;
+            }
+        }
+        return highest + ages;
+    }
+
+    /*
+     * The salary ranking as it was built before the columnar roster: a stable object sort unboxing every comparison.
+     */
+    @Benchmark
+    public Employee[] rankObjects() {
+        final var ranked = employees.stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .toArray(Employee[]::new);
+        Arrays.sort(ranked, Comparator.comparingInt((Employee employee) -> employee.getEmployeeSalary()).reversed());
+        return ranked;
+    }
+
+    @Benchmark
+    public SalaryIndex rankColumns() {
+        return SalaryIndex.of(roster);
+    }
+
+    @Benchmark
+    public EmployeeRoster buildColumns() {
+        return EmployeeRoster.of(employees);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /*
+         * Set rather than accumulated, so with one thread it reports the representation's size.
+         */
+        public long retainedBytes;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.support.Rosters;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decodes the mock server's full-roster payload into {@code ApiResponse<List<Employee>>}, the way the api does on
+ * every upstream roster fetch: through databind, and through {@link EmployeeJsonCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonDeserializationBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader rosterReader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        rosterReader = objectMapper.readerFor(ROSTER_TYPE);
+        payload = objectMapper.writeValueAsBytes(
+                new ApiResponse<>(Rosters.generate(rosterSize, 42L), "Successfully processed request."));
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> readValue() throws IOException {
+        return objectMapper.readValue(payload, ROSTER_TYPE);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> preparedReader() throws IOException {
+        return rosterReader.readValue(payload);
+    }
+
+    /*
+     * The hand-written codec the api's upstream converters use; compare gc.alloc.rate.norm with the readers above.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public ApiResponse<List<Employee>> streamingCodec() throws IOException {
+        return (ApiResponse<List<Employee>>)
+                EmployeeJsonCodec.read(new ByteArrayInputStream(payload), ROSTER_TYPE.getType());
+    }
+}
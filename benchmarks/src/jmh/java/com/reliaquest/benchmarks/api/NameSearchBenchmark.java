@@ -0,0 +1,58 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.NameIndex;
+import com.reliaquest.benchmarks.support.Rosters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the lowercase-and-contains scan the controller used to run per search with the trigram {@link NameIndex}.
+ * Run with the gc profiler (enabled in the jmh task) to compare {@code gc.alloc.rate.norm}. The short query on the
+ * larger rosters verifies enough candidates for the index to split the work across cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    /*
+     * A selective query, a common fragment and a query shorter than a trigram.
+     */
+    @Param({"nixon 4242", "jill", "bo"})
+    private String searchString;
+
+    private List<Employee> employees;
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(rosterSize, 42L);
+        index = NameIndex.of(employees);
+    }
+
+    @Benchmark
+    public List<Employee> scan() {
+        return employees.stream()
+                .filter(employee -> employee.getEmployeeName() != null
+                        && employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> indexed() {
+        return index.search(searchString);
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.benchmarks.api;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.benchmarks.support.Rosters;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the per-request stream pipelines the controller used to run for highest salary and top ten earners with
+ * the salary index kept on {@link RosterSnapshot}, plus the cost of keeping that index current on create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryAggregateBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private List<Employee> employees;
+    private RosterSnapshot snapshot;
+    private Employee created;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(rosterSize, 42L);
+        snapshot = RosterSnapshot.of(employees);
+        created = Rosters.employee(new SplittableRandom(7L), rosterSize);
+    }
+
+    @Benchmark
+    public int highestSalaryStream() {
+        return employees.stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .mapToInt(Employee::getEmployeeSalary)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryIndexed() {
+        return snapshot.highestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenStream() {
+        return employees.stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> topTenIndexed() {
+        return snapshot.topEarnerNames(10);
+    }
+
+    @Benchmark
+    public RosterSnapshot createIncremental() {
+        return snapshot.withEmployee(created);
+    }
+
+    @Benchmark
+    public RosterSnapshot rebuildSnapshot() {
+        return RosterSnapshot.of(employees);
+    }
+}
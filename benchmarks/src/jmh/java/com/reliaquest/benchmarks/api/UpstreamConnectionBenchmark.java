@@ -0,0 +1,109 @@
+package com.reliaquest.benchmarks.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.benchmarks.support.StubHttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Fetches a small roster over loopback with the old bare {@code new RestTemplate()} and with the pooled client from
+ * {@link RestTemplateConfig}. The {@code connectionsOpened} counter shows how many TCP connections each variant
+ * needed per iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UpstreamConnectionBenchmark {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> ROSTER_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    @Param({"simple", "pooled"})
+    private String client;
+
+    private StubHttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var payload = new ObjectMapper()
+                .writeValueAsBytes(new ApiResponse<>(Rosters.generate(50, 42L), "Successfully processed request."));
+        server = StubHttpServer.start(payload, 8);
+        url = server.url("/api/v1/employee");
+        if ("pooled".equals(client)) {
+            final var config = new RestTemplateConfig();
+            httpClient = config.upstreamHttpClient(new HttpClientProperties(
+                    50,
+                    50,
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(10),
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(60)));
+            restTemplate = config.restTemplate(httpClient, new SimpleMeterRegistry());
+        } else {
+            restTemplate = new RestTemplate();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.close();
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> fetchRoster(Connections connections) {
+        return restTemplate.exchange(url, HttpMethod.GET, null, ROSTER_TYPE).getBody();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Connections {
+
+        private StubHttpServer server;
+        private int baseline;
+
+        @Setup(Level.Iteration)
+        public void reset(UpstreamConnectionBenchmark benchmark) {
+            server = benchmark.server;
+            baseline = server.connectionsOpened();
+        }
+
+        /*
+         * Every thread reports the shared server count, so divide by the thread count for the per-iteration total.
+         */
+        public long connectionsOpened() {
+            return server.connectionsOpened() - baseline;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.benchmarks.server;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StorePersistence;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long the mock server takes to have its roster ready: regenerating it with Datafaker against restoring
+ * it from a persisted snapshot, with a short write-ahead log to replay on top and fold into a fresh snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColdStartBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int LOGGED_CHANGES = 1000;
+
+    @Param({"1000000"})
+    private int rosterSize;
+
+    @Param({"generate", "snapshot"})
+    private String source;
+
+    private MockEmployeeGenerator generator;
+    private Path directory;
+    private Path snapshotCopy;
+    private Path logCopy;
+    private StorePersistence persistence;
+    private EmployeeStore loaded;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        generator = new MockEmployeeGenerator(SEED, Locale.US);
+        if (!"snapshot".equals(source)) {
+            return;
+        }
+        directory = Files.createTempDirectory("cold-start");
+        final var seedDirectory = directory.resolve("seed");
+        try (final var seeding = new StorePersistence(seedDirectory)) {
+            final var store = seeding.load(LOGGED_CHANGES, () -> generator.generate(rosterSize));
+            // Leave a tail of writes in the log, as an unclean shutdown would.
+            final var employees = store.findAll();
+            for (int i = 0; i < LOGGED_CHANGES; i++) {
+                store.removeById(employees.get(i).getId());
+            }
+            snapshotCopy = Files.copy(seedDirectory.resolve("employees.snapshot"), directory.resolve("snapshot"));
+            logCopy = Files.copy(seedDirectory.resolve("employees.wal"), directory.resolve("wal"));
+        }
+    }
+
+    /*
+     * Every invocation restores the same snapshot and log, since closing the previous store folds its log away.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws IOException {
+        if (directory != null) {
+            final var runDirectory = Files.createDirectories(directory.resolve("run"));
+            Files.copy(snapshotCopy, runDirectory.resolve("employees.snapshot"));
+            Files.copy(logCopy, runDirectory.resolve("employees.wal"));
+        }
+    }
+
+    @Benchmark
+    public EmployeeStore coldStart() throws IOException {
+        if (directory == null) {
+            loaded = EmployeeStore.of(generator.generate(rosterSize));
+            return loaded;
+        }
+        persistence = new StorePersistence(directory.resolve("run"));
+        loaded = persistence.load(LOGGED_CHANGES, List::of);
+        return loaded;
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws IOException {
+        if (loaded.size() == 0) {
+            throw new IllegalStateException("Cold start produced an empty roster");
+        }
+        loaded = null;
+        if (persistence != null) {
+            persistence.close();
+            persistence = null;
+            delete(directory.resolve("run"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        if (directory != null) {
+            delete(directory);
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (final var file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
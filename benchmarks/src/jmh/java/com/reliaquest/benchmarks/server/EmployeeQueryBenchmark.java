@@ -0,0 +1,111 @@
+package com.reliaquest.benchmarks.server;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.server.model.QueryMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Answers a name search and the top ten earners on a 1M employee roster the way the api does with a cold roster cache:
+ * by reading the full roster and indexing it, against pushing the query down to the mock server and reading one
+ * projected page. Each variant covers the server building the body and the api decoding it; the
+ * {@code payloadBytes} counter shows what would cross the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeQueryBenchmark {
+
+    private static final String SEARCH_TERM = "77777";
+    private static final int TOP_EARNERS = 10;
+
+    @Param({"1000000"})
+    private int rosterSize;
+
+    @Param({"search", "topTen"})
+    private String question;
+
+    private MockEmployeeService service;
+    private QueryMockEmployeeInput query;
+    private ObjectReader rosterReader;
+    private ObjectReader pageReader;
+
+    @Setup
+    public void setUp() {
+        service = new MockEmployeeService(
+                new Faker(Locale.getDefault()), EmployeeStore.of(Rosters.generateMock(rosterSize, 42L)));
+        query = new QueryMockEmployeeInput();
+        if ("search".equals(question)) {
+            query.setName(SEARCH_TERM);
+        } else {
+            query.setSort("-salary");
+            query.setLimit(TOP_EARNERS);
+            query.setFields(List.of("name"));
+        }
+        final var apiMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        rosterReader = apiMapper.readerFor(new TypeReference<ApiResponse<List<Employee>>>() {});
+        pageReader = apiMapper.readerFor(new TypeReference<ApiResponse<EmployeePage>>() {});
+    }
+
+    /*
+     * The server's roster body is cached per version, so this is mostly the api decoding and indexing it.
+     */
+    @Benchmark
+    public Object viaRoster(Payload payload) throws IOException {
+        final var json = service.getMockEmployeesJson().json();
+        payload.payloadBytes = json.length;
+        final ApiResponse<List<Employee>> response = rosterReader.readValue(json);
+        final var snapshot = RosterSnapshot.of(response.getData());
+        return "search".equals(question)
+                ? snapshot.searchByName(SEARCH_TERM)
+                : snapshot.topEarnerNames(TOP_EARNERS);
+    }
+
+    @Benchmark
+    public Object viaQuery(Payload payload) throws IOException {
+        final var json = service.queryMockEmployeesJson(query);
+        payload.payloadBytes = json.length;
+        final ApiResponse<EmployeePage> response = pageReader.readValue(json);
+        return "search".equals(question)
+                ? response.getData().getEmployees()
+                : response.getData().getEmployees().stream()
+                        .map(Employee::getEmployeeName)
+                        .toList();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        /*
+         * Set rather than accumulated, so with one thread it reports the body size of a single answer.
+         */
+        public long payloadBytes;
+    }
+}
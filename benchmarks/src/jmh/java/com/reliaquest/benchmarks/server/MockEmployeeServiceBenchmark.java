@@ -0,0 +1,104 @@
+package com.reliaquest.benchmarks.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.web.MockEmployeeJsonCodec;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the mock server's lookups by id, deletes by name and full roster reads against {@link EmployeeStore} at
+ * increasing sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    private static final int LOOKUP_KEYS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeStore store;
+    private MockEmployeeService service;
+    private ObjectMapper objectMapper;
+    private UUID[] ids;
+    private int next;
+    private MockEmployee deleteTarget;
+    private DeleteMockEmployeeInput deleteInput;
+
+    @Setup
+    public void setUp() {
+        final List<MockEmployee> employees = Rosters.generateMock(rosterSize, 42L);
+        ids = new UUID[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            ids[i] = employees.get((int) ((long) i * rosterSize / LOOKUP_KEYS)).getId();
+        }
+        deleteTarget = employees.get(employees.size() - 1);
+        deleteInput = new DeleteMockEmployeeInput();
+        deleteInput.setName(deleteTarget.getName());
+        store = EmployeeStore.of(employees);
+        objectMapper = new ObjectMapper();
+        service = new MockEmployeeService(new Faker(Locale.getDefault()), store);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        final var id = ids[next];
+        next = (next + 1) & (LOOKUP_KEYS - 1);
+        return service.findById(id);
+    }
+
+    /*
+     * The full roster GET body, serialized once per store version.
+     */
+    @Benchmark
+    public byte[] getAllCached() {
+        return service.getMockEmployeesJson().json();
+    }
+
+    /*
+     * What every full roster GET used to cost: serializing the whole roster again.
+     */
+    @Benchmark
+    public byte[] getAllSerialized() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Response.handledWith(store.findAll()));
+    }
+
+    /*
+     * The same body written by the hand-written codec the server now uses; compare gc.alloc.rate.norm.
+     */
+    @Benchmark
+    public byte[] getAllSerializedWithCodec() {
+        return MockEmployeeJsonCodec.toJsonBytes(Response.handledWith(store.findAll()));
+    }
+
+    /*
+     * Deletes the last employee and puts it back so every invocation sees the same store.
+     */
+    @Benchmark
+    public boolean deleteByName() {
+        final boolean deleted = service.delete(deleteInput);
+        store.add(deleteTarget);
+        return deleted;
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.benchmarks.server;
+
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Holds a 5M employee roster in the heap store and in the off-heap store and measures what the garbage collector
+ * pays for it. {@code fullGc} times a full collection, whose pause grows with the live heap it has to trace;
+ * {@code churn} adds and deletes employees while the gc profiler reports the collection time it causes. The
+ * {@code heapBytes} and {@code rssBytes} counters are the used heap after a full GC and the process's resident set,
+ * which for the off-heap store includes its direct buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OffHeapStoreBenchmark {
+
+    @Param({"5000000"})
+    private int rosterSize;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    private EmployeeStore.Backend backend;
+
+    private EmployeeStore store;
+    private SplittableRandom random;
+    private int hires;
+
+    @Setup
+    public void setUp() {
+        store = backend.create(Rosters.generateMock(rosterSize, 42L), EmployeeStore.DEFAULT_RETAINED_CHANGES);
+        random = new SplittableRandom(7L);
+        hires = rosterSize;
+    }
+
+    @Benchmark
+    public void fullGc(Footprint footprint) throws IOException {
+        System.gc();
+        footprint.heapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        footprint.rssBytes = residentBytes();
+    }
+
+    /*
+     * One hire and one leaver, so the roster stays the same size.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public MockEmployee churn() {
+        final var hire = store.add(Rosters.mockEmployee(random, hires++));
+        return store.removeById(hire.getId()).orElseThrow();
+    }
+
+    /**
+     * @return the resident set size from {@code /proc/self/status}, {@code 0} where there is none
+     */
+    private static long residentBytes() throws IOException {
+        final var status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (final var line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+            }
+        }
+        return 0;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /*
+         * Set rather than accumulated, so with one thread they report the roster's footprint.
+         */
+        public long heapBytes;
+
+        public long rssBytes;
+    }
+}
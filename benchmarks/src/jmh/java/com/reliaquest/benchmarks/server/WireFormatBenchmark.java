@@ -0,0 +1,101 @@
+package com.reliaquest.benchmarks.server;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.reliaquest.api.codec.EmployeeJsonCodec;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.support.Rosters;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.MockEmployeeJsonCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The full-roster body in each format the mock server can send the api: JSON, JSON gzipped the way Tomcat compresses
+ * it, and Smile. {@code encode} is the server building the body, {@code decode} the api reading it with
+ * {@link EmployeeJsonCodec}; the {@code payloadBytes} counter shows what would cross the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_TYPE = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    private int rosterSize;
+
+    @Param({"json", "jsonGzip", "smile"})
+    private String format;
+
+    private Response<List<MockEmployee>> roster;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        roster = Response.handledWith(Rosters.generateMock(rosterSize, 42L));
+        body = encode(new Payload());
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws IOException {
+        final byte[] encoded;
+        if ("smile".equals(format)) {
+            encoded = MockEmployeeJsonCodec.toBytes(MockEmployeeJsonCodec.SMILE_FACTORY, roster);
+        } else if ("jsonGzip".equals(format)) {
+            final var json = MockEmployeeJsonCodec.toJsonBytes(roster);
+            final var out = new ByteArrayOutputStream(json.length / 4);
+            try (final var gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            encoded = out.toByteArray();
+        } else {
+            encoded = MockEmployeeJsonCodec.toJsonBytes(roster);
+        }
+        payload.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public Object decode(Payload payload) throws IOException {
+        payload.payloadBytes = body.length;
+        InputStream in = new ByteArrayInputStream(body);
+        if ("jsonGzip".equals(format)) {
+            in = new GZIPInputStream(in);
+        }
+        return EmployeeJsonCodec.read(
+                "smile".equals(format) ? EmployeeJsonCodec.SMILE_FACTORY : EmployeeJsonCodec.FACTORY,
+                in,
+                ROSTER_TYPE.getType());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        /*
+         * Set rather than accumulated, so with one thread it reports the size of a single roster body.
+         */
+        public long payloadBytes;
+    }
+}
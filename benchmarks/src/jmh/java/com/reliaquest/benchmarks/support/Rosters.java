@@ -0,0 +1,67 @@
+package com.reliaquest.benchmarks.support;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters so every benchmark run sees the same data for a given size.
+ */
+public final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Bill", "Jill", "John", "Jane", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen"
+    };
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Bob", "Jenkins", "Doe", "Smith", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst"
+    };
+    private static final String[] TITLES = {
+        "Developer", "Designer", "Manager", "Analyst", "Documentation Engineer", "Financial Advisor", "Accountant"
+    };
+
+    private Rosters() {}
+
+    public static List<Employee> generate(int size, long seed) {
+        final var random = new SplittableRandom(seed);
+        final var employees = new ArrayList<Employee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(employee(random, i));
+        }
+        return employees;
+    }
+
+    public static Employee employee(SplittableRandom random, int sequence) {
+        final var mockEmployee = mockEmployee(random, sequence);
+        return new Employee(
+                mockEmployee.getId().toString(),
+                mockEmployee.getName(),
+                mockEmployee.getSalary(),
+                mockEmployee.getAge(),
+                mockEmployee.getTitle(),
+                mockEmployee.getEmail());
+    }
+
+    public static List<MockEmployee> generateMock(int size, long seed) {
+        final var random = new SplittableRandom(seed);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(mockEmployee(random, i));
+        }
+        return employees;
+    }
+
+    public static MockEmployee mockEmployee(SplittableRandom random, int sequence) {
+        final var name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + sequence;
+        return new MockEmployee(
+                new UUID(random.nextLong(), random.nextLong()),
+                name,
+                random.nextInt(30000, 500000),
+                random.nextInt(16, 70),
+                TITLES[random.nextInt(TITLES.length)],
+                "employee" + sequence + "@company.com");
+    }
+}
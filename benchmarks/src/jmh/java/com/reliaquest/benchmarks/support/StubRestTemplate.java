@@ -0,0 +1,33 @@
+package com.reliaquest.benchmarks.support;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Answers every exchange with a fixed roster so api benchmarks measure the api itself rather than the network.
+ */
+public class StubRestTemplate extends RestTemplate {
+
+    private final ApiResponse<List<Employee>> roster;
+
+    public StubRestTemplate(List<Employee> employees) {
+        this.roster = new ApiResponse<>(employees, "Successfully processed request.");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(
+            String url,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            ParameterizedTypeReference<T> responseType,
+            Object... uriVariables) {
+        return (ResponseEntity<T>) ResponseEntity.ok(roster);
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.benchmarks.load;
+
+import com.reliaquest.benchmarks.support.StubHttpServer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator: {@code load.concurrency} simulated clients each send a request, wait for the
+ * response and immediately send the next one, for {@code load.duration}. Prints throughput and latency percentiles.
+ * <p>
+ * When {@code load.upstream-port} is set, a stub mock employee API answering after {@code load.upstream-latency} is
+ * started on that port first, so an api pointed at it spends each request blocked on a slow upstream.
+ */
+public final class HttpLoadTest {
+
+    private static final String EMPLOYEE_JSON = """
+            {"data":{"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon",\
+            "employee_salary":320800,"employee_age":61,"employee_title":"Vice Chair",\
+            "employee_email":"tnixon@company.com"},"status":"Successfully processed request."}""";
+
+    private HttpLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        final var url = URI.create(System.getProperty(
+                "load.url", "http://localhost:8111/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+        final int concurrency = Integer.getInteger("load.concurrency", 1000);
+        final var duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        final var upstreamPort = Integer.getInteger("load.upstream-port");
+        final var upstreamLatency = Duration.parse(System.getProperty("load.upstream-latency", "PT0.1S"));
+
+        StubHttpServer upstream = null;
+        if (upstreamPort != null) {
+            upstream = StubHttpServer.start(
+                    upstreamPort, EMPLOYEE_JSON.getBytes(StandardCharsets.UTF_8), concurrency + 64, upstreamLatency);
+            System.out.printf("Stub upstream on port %d answering after %s%n", upstreamPort, upstreamLatency);
+        }
+
+        try {
+            final var result = run(url, concurrency, duration);
+            System.out.printf(
+                    "%s: %d clients for %s%n  requests %d, errors %d, throughput %.1f req/s%n"
+                            + "  latency ms p50 %.1f, p95 %.1f, p99 %.1f, max %.1f%n",
+                    url,
+                    concurrency,
+                    duration,
+                    result.requests(),
+                    result.errors(),
+                    result.requests() / (double) duration.toSeconds(),
+                    result.percentile(0.50),
+                    result.percentile(0.95),
+                    result.percentile(0.99),
+                    result.percentile(1.0));
+        } finally {
+            if (upstream != null) {
+                upstream.close();
+            }
+        }
+    }
+
+    private static Result run(URI url, int concurrency, Duration duration) throws InterruptedException {
+        final var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        final var request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(60)).GET().build();
+        final var recorder = new LatencyRecorder();
+        final var errors = new AtomicLong();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final var done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            new Loop(client, request, deadline, recorder, errors, done).next();
+        }
+        done.await();
+        return new Result(recorder.sorted(), errors.get());
+    }
+
+    private record Loop(
+            HttpClient client,
+            HttpRequest request,
+            long deadline,
+            LatencyRecorder recorder,
+            AtomicLong errors,
+            CountDownLatch done) {
+
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                done.countDown();
+                return;
+            }
+            final long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                recorder.record(System.nanoTime() - start);
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                next();
+            });
+        }
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] samples = new long[1 << 16];
+        private int size;
+
+        synchronized void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            final var copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private record Result(long[] latencies, long errors) {
+
+        long requests() {
+            return latencies.length;
+        }
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
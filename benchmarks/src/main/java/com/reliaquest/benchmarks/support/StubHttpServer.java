@@ -0,0 +1,73 @@
+package com.reliaquest.benchmarks.support;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal HTTP/1.1 server answering every request with a fixed JSON body, optionally after a fixed delay to stand in
+ * for upstream latency. It remembers the remote address of every exchange, so the number of distinct addresses is the
+ * number of TCP connections clients opened.
+ */
+public final class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    private StubHttpServer(int port, byte[] body, int threads, Duration delay) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            connections.add(exchange.getRemoteAddress());
+            exchange.getRequestBody().readAllBytes();
+            if (!delay.isZero()) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (var responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+    }
+
+    public static StubHttpServer start(byte[] body, int threads) throws IOException {
+        return new StubHttpServer(0, body, threads, Duration.ZERO);
+    }
+
+    public static StubHttpServer start(byte[] body, int threads, Duration delay) throws IOException {
+        return new StubHttpServer(0, body, threads, delay);
+    }
+
+    public static StubHttpServer start(int port, byte[] body, int threads, Duration delay) throws IOException {
+        return new StubHttpServer(port, body, threads, delay);
+    }
+
+    public String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    public int connectionsOpened() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
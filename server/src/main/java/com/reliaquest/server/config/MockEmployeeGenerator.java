@@ -0,0 +1,95 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Generates a reproducible roster of mock employees across all cores.
+ * <p>
+ * The roster is cut into fixed-size chunks, each generated by its own {@link Faker} seeded from the roster seed and
+ * the chunk's index, and the chunks are joined back in index order. A seed and locale therefore always yield the same
+ * roster, ids included, however many cores run the chunks and in whatever order they finish. Employees are built
+ * directly rather than through Datafaker's reflective object transformer.
+ */
+@Slf4j
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final long seed;
+    private final Locale locale;
+
+    public MockEmployeeGenerator(long seed, @NonNull Locale locale) {
+        this.seed = seed;
+        this.locale = locale;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final int logEvery = Math.max(chunks / 10, 1);
+        final var completed = new AtomicInteger();
+        final long started = System.nanoTime();
+        log.info("Generating {} employees with seed {}", count, seed);
+
+        final var employees = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    final var generated = generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE));
+                    final int done = completed.incrementAndGet();
+                    if (done % logEvery == 0 && done < chunks) {
+                        log.info("Generated {} of {} employees", (long) done * CHUNK_SIZE, count);
+                    }
+                    return generated;
+                })
+                .flatMap(List::stream)
+                .toList();
+
+        log.info("Generated {} employees in {} ms", employees.size(), (System.nanoTime() - started) / 1_000_000);
+        return employees;
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        final var random = new Random(mix(seed + chunk));
+        final var faker = new Faker(locale, random);
+        return IntStream.range(0, size)
+                .mapToObj(ignored -> MockEmployee.builder()
+                        .id(randomUuid(random))
+                        .name(faker.name().fullName())
+                        .salary(faker.number().numberBetween(30000, 500000))
+                        .age(faker.number().numberBetween(16, 70))
+                        .title(faker.job().title())
+                        .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * A version 4 UUID drawn from {@code random} instead of a secure source, so it is reproducible.
+     */
+    private static UUID randomUuid(Random random) {
+        final long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long least = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(most, least);
+    }
+
+    /**
+     * Spreads neighbouring chunk seeds apart, since {@link Random} streams from adjacent seeds start out correlated.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
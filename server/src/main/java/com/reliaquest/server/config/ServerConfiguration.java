@@ -1,21 +1,28 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StorePersistence;
+import com.reliaquest.server.web.MockEmployeeHttpMessageConverter;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.WireFormat;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -31,29 +38,91 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. Set mock.employees.seed to get the same roster on every
+     * start; without it a random seed is used and logged. With mock.persistence.directory set the roster is only
+     * generated on the first start and restored from that directory, writes included, on later ones. Set
+     * mock.store.backend to off_heap to keep the roster in direct memory rather than on the heap.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public EmployeeStore employeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.changes.retained:1024}") int retainedChanges,
+            @Value("${mock.store.backend:heap}") EmployeeStore.Backend backend,
+            ObjectProvider<StorePersistence> persistence)
+            throws IOException {
+        final var generator = new MockEmployeeGenerator(
+                seed != null ? seed : ThreadLocalRandom.current().nextLong(), Locale.getDefault());
+        final var storePersistence = persistence.getIfAvailable();
+        if (storePersistence != null) {
+            return storePersistence.load(backend, retainedChanges, () -> generator.generate(maxEmployees));
+        }
+        return backend.create(generator.generate(maxEmployees), retainedChanges);
     }
 
+    /*
+     * mock.persistence.checkpoint-after bounds the write-ahead log: once it grows past that size the roster is
+     * snapshotted again in the background and the log emptied.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("mock.persistence.directory")
+    public StorePersistence storePersistence(
+            @Value("${mock.persistence.directory}") Path directory,
+            @Value("${mock.persistence.checkpoint-after:64MB}") DataSize checkpointAfter)
+            throws IOException {
+        return new StorePersistence(directory, checkpointAfter.toBytes());
+    }
+
+    /*
+     * Gauges read the store and the cached roster body as they are; nothing is built for a scrape. Request latency and
+     * the rate limiter's 429s are already in http.server.requests, tagged by route and status.
+     */
+    @Bean
+    public MeterBinder storeMetrics(
+            EmployeeStore employeeStore,
+            MockEmployeeService mockEmployeeService,
+            ObjectProvider<StorePersistence> persistence) {
+        return registry -> {
+            Gauge.builder("mock.roster.size", employeeStore, EmployeeStore::size)
+                    .description("Employees in the store")
+                    .register(registry);
+            Gauge.builder("mock.roster.version", employeeStore, EmployeeStore::version)
+                    .description("Store version, bumped by every write")
+                    .register(registry);
+            Gauge.builder("mock.roster.payload", mockEmployeeService, MockEmployeeService::getRosterPayloadBytes)
+                    .description("Size of the cached full roster response body")
+                    .baseUnit("bytes")
+                    .register(registry);
+            final var storePersistence = persistence.getIfAvailable();
+            if (storePersistence != null) {
+                FunctionCounter.builder("mock.wal.commits", storePersistence, StorePersistence::getCommits)
+                        .description("Write-ahead log fsyncs, each covering one or more writes")
+                        .register(registry);
+            }
+        };
+    }
+
+    /*
+     * Load tests need the rate limiter out of the way, so it can be switched off with mock.request-limit.enabled.
+     */
+    @Value("${mock.request-limit.enabled:true}")
+    private boolean requestLimitEnabled;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (requestLimitEnabled) {
+            // Metrics scrapes are not API traffic and must not spend or hit the request limit.
+            registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/actuator/**");
+        }
+    }
+
+    /*
+     * Ahead of Jackson, so responses carrying employees skip databind; they decline everything else. JSON first, so it
+     * stays the answer to a wildcard Accept.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new MockEmployeeHttpMessageConverter(WireFormat.JSON));
+        converters.add(1, new MockEmployeeHttpMessageConverter(WireFormat.SMILE));
     }
 }
@@ -3,32 +3,85 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.QueryMockEmployeeInput;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.WireFormat;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    static final String CHANGE_CURSOR_HEADER = "X-Change-Cursor";
+
     private final MockEmployeeService mockEmployeeService;
 
+    /*
+     * The roster only changes on create and delete, so its JSON is cached per store version and written as is. The
+     * version doubles as the ETag; Spring answers a matching If-None-Match with 304 and no body. The cursor header
+     * tells the client which version to follow the change feed from.
+     *
+     * Any query parameter turns the request into a query evaluated by the store, answered with one page of matches
+     * and without an ETag, since a page is not a roster version.
+     *
+     * The roster is sent as Smile to clients that ask for it in Accept, JSON to everyone else.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            QueryMockEmployeeInput query, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (query.hasCriteria()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(mockEmployeeService.queryMockEmployeesJson(query));
+        }
+        final var format = WireFormat.negotiate(accept);
+        final var roster = mockEmployeeService.getMockEmployeesBody(format);
+        return ResponseEntity.ok()
+                .eTag(roster.etag())
+                .header(CHANGE_CURSOR_HEADER, roster.cursor())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(roster.json());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(mockEmployeeService::writeMockEmployeesNdjson);
+    }
+
+    /*
+     * Changes only go back as far as the store retains them; a client that is further behind gets 410 and has to
+     * reload the roster.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeService.ChangeFeed>> getChanges(@RequestParam("since") long since) {
+        return mockEmployeeService
+                .getChangesSince(since)
+                .map(feed -> ResponseEntity.ok(Response.handledWith(feed)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since version " + since + " are no longer available.")));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +101,31 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /*
+     * Batches apply in one store write and count as one request against the request limit. Every item is validated
+     * before any is applied, so an invalid item rejects the whole batch.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody List<CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(@Valid @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
+
+    @DeleteMapping("/batch/ids")
+    public Response<List<MockEmployee>> deleteEmployeesById(@RequestBody List<@NotNull UUID> ids) {
+        return Response.handledWith(mockEmployeeService.deleteAllById(ids));
+    }
 }
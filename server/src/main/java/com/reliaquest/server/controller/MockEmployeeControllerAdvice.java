@@ -1,18 +1,56 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleIllegalArgument(IllegalArgumentException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /**
+     * A request body that fails its constraints, such as a name longer than the store can persist.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidBody(MethodArgumentNotValidException ex) {
+        return rejected(ex.getAllErrors());
+    }
+
+    /**
+     * Constraints checked by method validation, which covers the elements of a batch body.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidArguments(HandlerMethodValidationException ex) {
+        return rejected(ex.getAllErrors());
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
         return ResponseEntity.internalServerError().body(Response.error(ex.getMessage()));
     }
+
+    private static ResponseEntity<?> rejected(List<? extends MessageSourceResolvable> errors) {
+        final var message = errors.stream()
+                .map(error -> error instanceof FieldError field
+                        ? field.getField() + " " + field.getDefaultMessage()
+                        : error.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        log.debug("Rejected invalid web request: {}", message);
+        return ResponseEntity.badRequest().body(Response.error(message));
+    }
 }
@@ -5,12 +5,19 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 public class CreateMockEmployeeInput {
 
+    /**
+     * Longest name or title accepted, comfortably inside what the store can persist.
+     */
+    public static final int MAX_TEXT_LENGTH = 255;
+
     @NotBlank
+    @Size(max = MAX_TEXT_LENGTH)
     private String name;
 
     @Positive @NotNull private Integer salary;
@@ -20,5 +27,6 @@ public class CreateMockEmployeeInput {
     @NotNull private Integer age;
 
     @NotBlank
+    @Size(max = MAX_TEXT_LENGTH)
     private String title;
 }
@@ -0,0 +1,45 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Query parameters of the employee list. {@code sort} is {@code salary} or {@code -salary} for descending, roster
+ * order when absent; {@code fields} names the employee properties to keep, all of them when absent.
+ */
+@Data
+public class QueryMockEmployeeInput {
+
+    private String name;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String sort;
+
+    private Integer limit;
+
+    private String cursor;
+
+    private List<String> fields;
+
+    /**
+     * @return whether any parameter was given, or the request asks for the plain roster
+     */
+    public boolean hasCriteria() {
+        return name != null
+                || minSalary != null
+                || maxSalary != null
+                || minAge != null
+                || maxAge != null
+                || sort != null
+                || limit != null
+                || cursor != null
+                || fields != null;
+    }
+}
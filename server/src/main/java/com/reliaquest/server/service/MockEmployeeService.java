@@ -4,11 +4,22 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.QueryMockEmployeeInput;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.ChangeLog;
+import com.reliaquest.server.store.EmployeeQuery;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.web.MockEmployeeJsonCodec;
+import com.reliaquest.server.web.WireFormat;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,39 +31,225 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    private static final Map<String, Integer> FIELD_MASKS = Map.of(
+            "id", MockEmployeeJsonCodec.ID_FIELD,
+            "name", MockEmployeeJsonCodec.NAME_FIELD,
+            "salary", MockEmployeeJsonCodec.SALARY_FIELD,
+            "age", MockEmployeeJsonCodec.AGE_FIELD,
+            "title", MockEmployeeJsonCodec.TITLE_FIELD,
+            "email", MockEmployeeJsonCodec.EMAIL_FIELD);
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    private final String instanceTag = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicReference<RosterJson> rosterJson =
+            new AtomicReference<>(new RosterJson(-1, null, null, null));
+    private final AtomicReference<RosterJson> rosterSmile =
+            new AtomicReference<>(new RosterJson(-1, null, null, null));
+
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.findAll();
+    }
+
+    /**
+     * @return the full roster response body, serialized once per store version and tagged with that version
+     */
+    public RosterJson getMockEmployeesJson() {
+        return getMockEmployeesBody(WireFormat.JSON);
+    }
+
+    /**
+     * Same as {@link #getMockEmployeesJson()} in either format. Each format is cached apart and only built once asked
+     * for, so a roster nobody reads as Smile costs nothing extra; both carry the same tag for the same version.
+     */
+    public RosterJson getMockEmployeesBody(@NonNull WireFormat format) {
+        final var cache = format == WireFormat.SMILE ? rosterSmile : rosterJson;
+        final var cached = cache.get();
+        // Checked before taking a snapshot, which the off-heap store decodes afresh every time.
+        if (cached.version() == employeeStore.version()) {
+            return cached;
+        }
+        final var snapshot = employeeStore.snapshot();
+        if (cached.version() == snapshot.version()) {
+            return cached;
+        }
+
+        final var json = MockEmployeeJsonCodec.toBytes(format.getFactory(), Response.handledWith(snapshot.employees()));
+        final var built = new RosterJson(
+                snapshot.version(),
+                "W/\"" + instanceTag + "-" + snapshot.version() + "\"",
+                instanceTag + ":" + snapshot.version(),
+                json);
+        cache.accumulateAndGet(built, (current, next) -> next.version() > current.version() ? next : current);
+        return built;
+    }
+
+    /**
+     * @return the size of the JSON roster response body last serialized, {@code 0} before the first roster read
+     */
+    public long getRosterPayloadBytes() {
+        final var cached = rosterJson.get().json();
+        return cached == null ? 0 : cached.length;
+    }
+
+    /**
+     * Writes the roster to {@code out} as newline-delimited JSON, one employee per line. Employees are serialized one
+     * at a time straight into the output, which is flushed whenever the generator's buffer fills, so nothing
+     * proportional to the roster is built on top of the store's own snapshot.
+     */
+    public void writeMockEmployeesNdjson(@NonNull OutputStream out) throws IOException {
+        try (final var generator = MockEmployeeJsonCodec.createGenerator(out)) {
+            MockEmployeeJsonCodec.writeLines(generator, employeeStore.snapshot().employees());
+        }
+    }
+
+    /**
+     * Filters, orders and pages the roster in the store, and writes only the requested fields of each employee, so the
+     * response carries just what the caller asked for.
+     *
+     * @return the serialized response body, laid out by {@link MockEmployeeJsonCodec#toPageBytes}
+     * @throws IllegalArgumentException when the query is malformed
+     */
+    public byte[] queryMockEmployeesJson(@NonNull QueryMockEmployeeInput input) {
+        final int fields = toFieldMask(input.getFields());
+        final var page = employeeStore.query(toQuery(input));
+        return MockEmployeeJsonCodec.toPageBytes(page.employees(), page.nextCursor(), fields);
+    }
+
+    /**
+     * @return the changes made after store version {@code since}, or empty when they can no longer all be replayed
+     */
+    public Optional<ChangeFeed> getChangesSince(long since) {
+        return employeeStore.changesSince(since).map(changes -> new ChangeFeed(
+                instanceTag, changes.isEmpty() ? since : changes.get(changes.size() - 1).sequence(), changes));
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = toMockEmployee(input);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates all employees in one store write.
+     *
+     * @return the created employees, in input order
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = employeeStore.addAll(inputs.stream().map(this::toMockEmployee).toList());
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = employeeStore.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /**
+     * Deletes exactly the employee with the given id, unlike a delete by name, which takes the earliest of any
+     * namesakes.
+     *
+     * @return the deleted employee, or empty when there was none with that id
+     */
+    public Optional<MockEmployee> deleteById(@NonNull UUID id) {
+        final var mockEmployee = employeeStore.removeById(id);
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee;
+    }
+
+    /**
+     * Deletes by each input's name in one store write; see {@link EmployeeStore#removeFirstByNames(List)}.
+     *
+     * @return whether an employee was deleted, for each input in order
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var removed = employeeStore.removeFirstByNames(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        final var deleted = removed.stream().map(Optional::isPresent).toList();
+        log.debug("Removed {} of {} employees", deleted.stream().filter(Boolean::booleanValue).count(), inputs.size());
+        return deleted;
+    }
+
+    /**
+     * Deletes exactly the employee with each id in one store write; see {@link #deleteById(UUID)}.
+     *
+     * @return the deleted employee for each id in order, {@code null} where there was none with that id
+     */
+    public List<MockEmployee> deleteAllById(@NonNull List<UUID> ids) {
+        final var deleted = employeeStore.removeByIds(ids).stream()
+                .map(removed -> removed.orElse(null))
+                .toList();
+        log.debug("Removed {} of {} employees", deleted.stream().filter(Objects::nonNull).count(), ids.size());
+        return deleted;
+    }
+
+    private static EmployeeQuery toQuery(QueryMockEmployeeInput input) {
+        final EmployeeQuery.Order order;
+        if (input.getSort() == null) {
+            order = EmployeeQuery.Order.ROSTER;
+        } else if ("salary".equals(input.getSort())) {
+            order = EmployeeQuery.Order.SALARY_ASCENDING;
+        } else if ("-salary".equals(input.getSort())) {
+            order = EmployeeQuery.Order.SALARY_DESCENDING;
+        } else {
+            throw new IllegalArgumentException("Cannot sort by " + input.getSort());
+        }
+        return new EmployeeQuery(
+                input.getName(),
+                input.getMinSalary(),
+                input.getMaxSalary(),
+                input.getMinAge(),
+                input.getMaxAge(),
+                order,
+                input.getCursor(),
+                input.getLimit() == null ? EmployeeQuery.UNLIMITED : input.getLimit());
+    }
+
+    private static int toFieldMask(List<String> fields) {
+        if (fields == null) {
+            return MockEmployeeJsonCodec.ALL_FIELDS;
+        }
+        int mask = 0;
+        for (final var field : fields) {
+            final var bit = FIELD_MASKS.get(field);
+            if (bit == null) {
+                throw new IllegalArgumentException("Unknown field " + field);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    private MockEmployee toMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    /**
+     * Serialized roster response for one store version, as JSON or as Smile, its binary form. The tag is weak because
+     * the body may be compressed on the wire; {@code json} is shared and must not be modified. {@code cursor} tells a
+     * client where to pick up the change feed: this instance's epoch and the version, separated by a colon.
+     */
+    public record RosterJson(long version, String etag, String cursor, byte[] json) {}
+
+    /**
+     * Changes after a store version, up to and including {@code latest}. The epoch identifies this server instance, so
+     * a client can tell that versions it saw elsewhere do not apply here.
+     */
+    public record ChangeFeed(String epoch, long latest, List<ChangeLog.Change> changes) {}
 }
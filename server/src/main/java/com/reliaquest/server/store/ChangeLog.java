@@ -0,0 +1,85 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Bounded, append-only log of roster changes, numbered by a sequence that grows by one with every change.
+ * <p>
+ * Only the latest {@code capacity} changes are kept in a ring; a reader that has fallen further behind than that has
+ * to start over from the full roster. Appends and reads copy a handful of references, so they simply serialize on the
+ * log's monitor; the latest sequence can be read without it.
+ */
+public class ChangeLog {
+
+    private final Change[] ring;
+    private final long first;
+    private volatile long latest;
+
+    public ChangeLog(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param latest the sequence to number changes after, so that a restored roster carries on from where it was
+     *     persisted; changes up to it cannot be replayed
+     */
+    public ChangeLog(int capacity, long latest) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (latest < 0) {
+            throw new IllegalArgumentException("latest must not be negative");
+        }
+        this.ring = new Change[capacity];
+        this.first = latest;
+        this.latest = latest;
+    }
+
+    public synchronized Change append(@NonNull Change.Type type, @NonNull MockEmployee employee) {
+        final var change = new Change(latest + 1, type, employee);
+        ring[slot(change.sequence())] = change;
+        latest = change.sequence();
+        return change;
+    }
+
+    /**
+     * @return the sequence of the latest change, {@code 0} before the first one
+     */
+    public long latest() {
+        return latest;
+    }
+
+    /**
+     * @return the changes after {@code sequence} in order, or empty when some of them are no longer retained or
+     *     {@code sequence} is not one this log has reached
+     */
+    public synchronized Optional<List<Change>> since(long sequence) {
+        if (sequence < first || sequence > latest || sequence < latest - ring.length) {
+            return Optional.empty();
+        }
+        final var changes = new ArrayList<Change>((int) (latest - sequence));
+        for (long next = sequence + 1; next <= latest; next++) {
+            changes.add(ring[slot(next)]);
+        }
+        return Optional.of(changes);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    /**
+     * One create or delete; a delete carries the employee as it was removed.
+     */
+    public record Change(long sequence, Type type, MockEmployee employee) {
+
+        public enum Type {
+            CREATED,
+            DELETED
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link MockEmployee} shared by the snapshot file and the write-ahead log; the off-heap
+ * store keeps its strings in the same length-prefixed form.
+ * <p>
+ * A record is a presence byte, the id as two longs, salary and age as ints, then name, title and email as UTF-8
+ * prefixed with an unsigned short length. Absent values take no space beyond their presence bit.
+ */
+final class EmployeeCodec {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private EmployeeCodec() {}
+
+    static byte[] encode(MockEmployee employee) {
+        final var name = utf8(employee.getName());
+        final var title = utf8(employee.getTitle());
+        final var email = utf8(employee.getEmail());
+        int flags = 0;
+        int size = 1;
+        if (employee.getId() != null) {
+            flags |= HAS_ID;
+            size += 2 * Long.BYTES;
+        }
+        if (employee.getSalary() != null) {
+            flags |= HAS_SALARY;
+            size += Integer.BYTES;
+        }
+        if (employee.getAge() != null) {
+            flags |= HAS_AGE;
+            size += Integer.BYTES;
+        }
+        if (name != null) {
+            flags |= HAS_NAME;
+            size += Short.BYTES + name.length;
+        }
+        if (title != null) {
+            flags |= HAS_TITLE;
+            size += Short.BYTES + title.length;
+        }
+        if (email != null) {
+            flags |= HAS_EMAIL;
+            size += Short.BYTES + email.length;
+        }
+
+        final var buffer = ByteBuffer.allocate(size).put((byte) flags);
+        if (employee.getId() != null) {
+            buffer.putLong(employee.getId().getMostSignificantBits());
+            buffer.putLong(employee.getId().getLeastSignificantBits());
+        }
+        if (employee.getSalary() != null) {
+            buffer.putInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            buffer.putInt(employee.getAge());
+        }
+        putString(buffer, name);
+        putString(buffer, title);
+        putString(buffer, email);
+        return buffer.array();
+    }
+
+    /**
+     * Reads one record at the buffer's position and advances past it.
+     *
+     * @throws BufferUnderflowException if the buffer ends inside the record
+     */
+    static MockEmployee decode(ByteBuffer buffer) {
+        final int flags = buffer.get();
+        final var id = (flags & HAS_ID) != 0 ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+        final var salary = (flags & HAS_SALARY) != 0 ? buffer.getInt() : null;
+        final var age = (flags & HAS_AGE) != 0 ? buffer.getInt() : null;
+        final var name = (flags & HAS_NAME) != 0 ? getString(buffer) : null;
+        final var title = (flags & HAS_TITLE) != 0 ? getString(buffer) : null;
+        final var email = (flags & HAS_EMAIL) != 0 ? getString(buffer) : null;
+        return new MockEmployee(id, name, salary, age, title, email);
+    }
+
+    /**
+     * Checks up front what {@link #encode} would reject, so a store can refuse an employee before changing anything.
+     *
+     * @throws IllegalArgumentException if one of the employee's strings is too long for its length prefix
+     */
+    static void checkEncodable(MockEmployee employee) {
+        utf8(employee.getName());
+        utf8(employee.getTitle());
+        utf8(employee.getEmail());
+    }
+
+    /**
+     * @return the value as UTF-8, or {@code null} for a {@code null} value
+     * @throws IllegalArgumentException if it is too long for a string's length prefix
+     */
+    static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Value too long to persist: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    static void putString(ByteBuffer buffer, byte[] value) {
+        if (value != null) {
+            buffer.putShort((short) value.length).put(value);
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        final var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.server.store;
+
+import java.util.List;
+
+/**
+ * Receives every change {@link EmployeeStore} makes, after the store has applied it and before the write returns.
+ */
+@FunctionalInterface
+public interface EmployeeJournal {
+
+    EmployeeJournal NONE = change -> {};
+
+    void append(ChangeLog.Change change);
+
+    /**
+     * Records the changes of one batch write, in order. Journals that can should make the whole batch durable at once.
+     */
+    default void appendAll(List<ChangeLog.Change> changes) {
+        changes.forEach(this::append);
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import lombok.NonNull;
+
+/**
+ * Filter, order and page for {@link EmployeeStore#query(EmployeeQuery)}.
+ * <p>
+ * Every bound is inclusive and may be {@code null}. The name matches as a case-insensitive substring. An employee
+ * without a salary or age never matches a bound on it, and salary orders leave out employees without a salary
+ * altogether. {@code cursor} is the {@code nextCursor} of the previous page, or {@code null} for the first one.
+ */
+public record EmployeeQuery(
+        String nameContains,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        @NonNull Order order,
+        String cursor,
+        int limit) {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    public EmployeeQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not exceed maxSalary");
+        }
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not exceed maxAge");
+        }
+    }
+
+    public static EmployeeQuery all(@NonNull Order order) {
+        return new EmployeeQuery(null, null, null, null, null, order, null, UNLIMITED);
+    }
+
+    public EmployeeQuery withCursor(String cursor) {
+        return new EmployeeQuery(nameContains, minSalary, maxSalary, minAge, maxAge, order, cursor, limit);
+    }
+
+    boolean matches(MockEmployee employee) {
+        return within(employee.getSalary(), minSalary, maxSalary)
+                && within(employee.getAge(), minAge, maxAge)
+                && (nameContains == null || containsIgnoreCase(employee.getName(), nameContains));
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    /*
+     * Compares in place rather than lower-casing both strings, since this runs once per scanned employee.
+     */
+    private static boolean containsIgnoreCase(String name, String part) {
+        if (name == null) {
+            return false;
+        }
+        for (int i = 0; i <= name.length() - part.length(); i++) {
+            if (name.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public enum Order {
+        /** Insertion order, the order of {@link EmployeeStore#findAll()}. */
+        ROSTER,
+        /** Lowest salary first; the exact reverse of {@link #SALARY_DESCENDING}. */
+        SALARY_ASCENDING,
+        /** Highest salary first, employees on the same salary in roster order. */
+        SALARY_DESCENDING
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Thread-safe store of mock employees. The roster keeps the order employees were added in, every add and successful
+ * delete bumps the store's version, and the latest changes can be replayed from a {@link ChangeLog}.
+ * <p>
+ * {@link HeapEmployeeStore} keeps employees as heap objects and is the default; {@link OffHeapEmployeeStore} keeps
+ * them in direct memory for rosters too large to leave to the garbage collector. {@link Backend} picks one.
+ */
+public interface EmployeeStore {
+
+    int DEFAULT_RETAINED_CHANGES = 1024;
+
+    static EmployeeStore of(@NonNull Collection<MockEmployee> employees) {
+        return of(employees, DEFAULT_RETAINED_CHANGES);
+    }
+
+    static EmployeeStore of(@NonNull Collection<MockEmployee> employees, int retainedChanges) {
+        return HeapEmployeeStore.of(employees, retainedChanges);
+    }
+
+    /**
+     * Sends every later change to {@code journal}. Journaling happens outside the store's locks, so a slow journal
+     * only holds up the write it is recording.
+     */
+    void setJournal(EmployeeJournal journal);
+
+    /**
+     * @throws IllegalArgumentException if the employee has a string too long to persist; the store is left unchanged
+     */
+    MockEmployee add(MockEmployee employee);
+
+    /**
+     * Adds the employees in order as one write. If any of them has a string too long to persist, none is added and
+     * {@link IllegalArgumentException} is thrown.
+     */
+    List<MockEmployee> addAll(List<MockEmployee> employees);
+
+    Optional<MockEmployee> findById(UUID id);
+
+    /**
+     * Removes the earliest added employee whose name matches {@code name} ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    /**
+     * Removes the earliest added match for each name in order as one write, so a name listed twice removes two
+     * employees.
+     *
+     * @return the employee removed for each name, empty where nothing matched
+     */
+    List<Optional<MockEmployee>> removeFirstByNames(List<String> names);
+
+    Optional<MockEmployee> removeById(UUID id);
+
+    /**
+     * Removes the employee with each id in order as one write.
+     *
+     * @return the employee removed for each id, empty where there was none
+     */
+    List<Optional<MockEmployee>> removeByIds(List<UUID> ids);
+
+    /**
+     * @return the roster in insertion order as of the latest completed write
+     */
+    List<MockEmployee> findAll();
+
+    Snapshot snapshot();
+
+    /**
+     * @return up to {@code query.limit()} matching employees in the query's order, starting after its cursor, and the
+     *     cursor for the next page when there are more matches
+     * @throws IllegalArgumentException when the cursor is not one this store handed out for the query's order
+     */
+    Page query(EmployeeQuery query);
+
+    /**
+     * @return a counter bumped by every add and every successful delete
+     */
+    long version();
+
+    /**
+     * @return the changes made after {@code version} in order, or empty when the store can no longer replay them all
+     */
+    Optional<List<ChangeLog.Change>> changesSince(long version);
+
+    int size();
+
+    /**
+     * Immutable roster as of {@code version}, in insertion order.
+     */
+    record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * One page of a {@link #query(EmployeeQuery)}; {@code nextCursor} is {@code null} on the last page.
+     */
+    record Page(List<MockEmployee> employees, String nextCursor) {}
+
+    /**
+     * Where the store keeps employees, chosen with {@code mock.store.backend}.
+     */
+    enum Backend {
+        HEAP,
+        OFF_HEAP;
+
+        public EmployeeStore create(@NonNull Collection<MockEmployee> employees, int retainedChanges) {
+            return create(employees, retainedChanges, employees.size());
+        }
+
+        /**
+         * @param version the store's version once the employees are added, so that a restored roster carries on
+         *     numbering changes from where it was persisted; at least the employees' count
+         */
+        public EmployeeStore create(@NonNull Collection<MockEmployee> employees, int retainedChanges, long version) {
+            return this == OFF_HEAP
+                    ? OffHeapEmployeeStore.of(employees, retainedChanges, version)
+                    : HeapEmployeeStore.of(employees, retainedChanges, version);
+        }
+    }
+}
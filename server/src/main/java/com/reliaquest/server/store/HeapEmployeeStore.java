@@ -0,0 +1,474 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+
+/**
+ * {@link EmployeeStore} keeping employees as heap objects, indexed by id, by case-insensitive name and by salary.
+ * <p>
+ * Every change is numbered by a bounded {@link ChangeLog}. Its sequence stamps added employees and orders
+ * {@link #findAll()}, so the roster keeps the order employees were added in, and each name bucket, so deleting by name
+ * removes the earliest match just like a scan of the roster would. Lookups by id and deletes by name are constant time;
+ * writes only lock the hash bin of the name they touch, plus a brief append to the log.
+ * <p>
+ * The latest sequence is also the store's version, and {@link #changesSince(long)} replays the changes made after a
+ * given version for as long as the log retains them. {@link #snapshot()} hands out an immutable copy of the roster for
+ * the current version, built by the first reader after a change and shared by all readers until the next one, so full
+ * roster reads neither lock nor copy in the common case. Writers share a lock that snapshot builds take exclusively,
+ * which keeps a build from observing a half-applied write while letting writers run concurrently with each other.
+ * <p>
+ * {@link #query(EmployeeQuery)} filters and pages the roster without a snapshot: it walks the sequence index, or the
+ * salary index for salary orders and bounds, and stops as soon as the page is full. A name part of three or more
+ * characters instead narrows the walk to the employees under its rarest trigram in a {@link TrigramIndex}, put in the
+ * page's order first. Pages are weakly consistent, like the indexes they walk, and their cursors are positions in the
+ * index rather than offsets, so a write between two pages neither repeats nor skips the employees that were already
+ * there.
+ * <p>
+ * Employees are indexed by the id, name and salary they had when added; these must not change while stored.
+ */
+public class HeapEmployeeStore implements EmployeeStore {
+
+    private final ChangeLog changeLog;
+    private volatile EmployeeJournal journal = EmployeeJournal.NONE;
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private volatile Snapshot snapshot;
+
+    private final ConcurrentNavigableMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<UUID, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Entry[]> byName = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<SalaryKey, MockEmployee> bySalary = new ConcurrentSkipListMap<>();
+    private final TrigramIndex byTrigram = new TrigramIndex();
+
+    public HeapEmployeeStore() {
+        this(DEFAULT_RETAINED_CHANGES);
+    }
+
+    /**
+     * @param retainedChanges how many of the latest changes {@link #changesSince(long)} can replay
+     */
+    public HeapEmployeeStore(int retainedChanges) {
+        this(retainedChanges, 0);
+    }
+
+    /**
+     * @param retainedChanges how many of the latest changes {@link #changesSince(long)} can replay
+     * @param version the version to number changes after
+     */
+    public HeapEmployeeStore(int retainedChanges, long version) {
+        this.changeLog = new ChangeLog(retainedChanges, version);
+        this.snapshot = new Snapshot(version, List.of());
+    }
+
+    public static HeapEmployeeStore of(@NonNull Collection<MockEmployee> employees, int retainedChanges) {
+        return of(employees, retainedChanges, employees.size());
+    }
+
+    /**
+     * @param version the store's version once the employees are added, at least their count
+     */
+    public static HeapEmployeeStore of(@NonNull Collection<MockEmployee> employees, int retainedChanges, long version) {
+        final var store = new HeapEmployeeStore(retainedChanges, startingVersion(employees, version));
+        employees.forEach(store::add);
+        return store;
+    }
+
+    @Override
+    public void setJournal(@NonNull EmployeeJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public MockEmployee add(@NonNull MockEmployee employee) {
+        EmployeeCodec.checkEncodable(employee);
+        final ChangeLog.Change change;
+        snapshotLock.readLock().lock();
+        try {
+            change = insert(employee);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        journal.append(change);
+        return employee;
+    }
+
+    /**
+     * The lock is taken once and the journal records the batch in one go.
+     */
+    @Override
+    public List<MockEmployee> addAll(@NonNull List<MockEmployee> employees) {
+        employees.forEach(EmployeeCodec::checkEncodable);
+        final var changes = new ArrayList<ChangeLog.Change>(employees.size());
+        snapshotLock.readLock().lock();
+        try {
+            for (final var employee : employees) {
+                changes.add(insert(employee));
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        journal.appendAll(changes);
+        return employees;
+    }
+
+    private ChangeLog.Change insert(@NonNull MockEmployee employee) {
+        final var change = changeLog.append(ChangeLog.Change.Type.CREATED, employee);
+        final var entry = new Entry(change.sequence(), employee);
+        if (employee.getName() != null) {
+            // Indexed first, so a query that finds the employee by sequence also finds it by name.
+            byTrigram.add(employee.getName(), entry.sequence());
+        }
+        bySequence.put(entry.sequence(), employee);
+        if (employee.getSalary() != null) {
+            bySalary.put(new SalaryKey(employee.getSalary(), entry.sequence()), employee);
+        }
+        if (employee.getId() != null) {
+            byId.putIfAbsent(employee.getId(), entry);
+        }
+        if (employee.getName() != null) {
+            byName.compute(foldCase(employee.getName()), (name, bucket) -> insert(bucket, entry));
+        }
+        return change;
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var entry = byId.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.employee());
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return remove(foldCase(name), null);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+        final var changes = new ArrayList<ChangeLog.Change>(names.size());
+        snapshotLock.readLock().lock();
+        try {
+            for (final var name : names) {
+                final var change = unlink(foldCase(name), null);
+                removed.add(change == null ? Optional.empty() : Optional.of(change.employee()));
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        journal.appendAll(changes);
+        return removed;
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        final ChangeLog.Change change;
+        snapshotLock.readLock().lock();
+        try {
+            change = unlink(id);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        return journaled(change);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeByIds(@NonNull List<UUID> ids) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(ids.size());
+        final var changes = new ArrayList<ChangeLog.Change>(ids.size());
+        snapshotLock.readLock().lock();
+        try {
+            for (final var id : ids) {
+                final var change = unlink(id);
+                removed.add(change == null ? Optional.empty() : Optional.of(change.employee()));
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        journal.appendAll(changes);
+        return removed;
+    }
+
+    private Optional<MockEmployee> remove(String key, Entry target) {
+        final ChangeLog.Change change;
+        snapshotLock.readLock().lock();
+        try {
+            change = unlink(key, target);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+        return journaled(change);
+    }
+
+    private Optional<MockEmployee> journaled(ChangeLog.Change change) {
+        if (change == null) {
+            return Optional.empty();
+        }
+        journal.append(change);
+        return Optional.of(change.employee());
+    }
+
+    /*
+     * Removes the employee with the given id; called with the read lock held, returns null when there is none. An
+     * employee without a name is in no name bucket, so claiming its id stands in for the bucket's lock.
+     */
+    private ChangeLog.Change unlink(UUID id) {
+        final var entry = byId.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.employee().getName() != null) {
+            return unlink(foldCase(entry.employee().getName()), entry);
+        }
+        if (!byId.remove(id, entry)) {
+            return null;
+        }
+        unindex(entry);
+        return changeLog.append(ChangeLog.Change.Type.DELETED, entry.employee());
+    }
+
+    /*
+     * Removes target from the name bucket under key, or the bucket's earliest entry when target is null. Called with
+     * the read lock held; returns null when there was nothing to remove.
+     */
+    private ChangeLog.Change unlink(String key, Entry target) {
+        final var removed = new Entry[1];
+        byName.computeIfPresent(key, (ignored, bucket) -> {
+            final int position = target == null ? 0 : indexOf(bucket, target);
+            if (position < 0) {
+                return bucket;
+            }
+            removed[0] = bucket[position];
+            // Unlink while the bucket is locked, so a concurrent delete of the same name cannot pick it again.
+            unindex(removed[0]);
+            if (removed[0].employee().getId() != null) {
+                byId.remove(removed[0].employee().getId(), removed[0]);
+            }
+            if (bucket.length == 1) {
+                return null;
+            }
+            final var remaining = new Entry[bucket.length - 1];
+            System.arraycopy(bucket, 0, remaining, 0, position);
+            System.arraycopy(bucket, position + 1, remaining, position, remaining.length - position);
+            return remaining;
+        });
+        return removed[0] == null ? null : changeLog.append(ChangeLog.Change.Type.DELETED, removed[0].employee());
+    }
+
+    private void unindex(Entry entry) {
+        bySequence.remove(entry.sequence());
+        if (entry.employee().getName() != null) {
+            byTrigram.remove(entry.employee().getName(), entry.sequence());
+        }
+        if (entry.employee().getSalary() != null) {
+            bySalary.remove(new SalaryKey(entry.employee().getSalary(), entry.sequence()));
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return snapshot().employees();
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        final var current = snapshot;
+        if (current.version() == changeLog.latest()) {
+            return current;
+        }
+        snapshotLock.writeLock().lock();
+        try {
+            final long latest = changeLog.latest();
+            if (snapshot.version() != latest) {
+                snapshot = new Snapshot(latest, List.copyOf(bySequence.values()));
+            }
+            return snapshot;
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Page query(@NonNull EmployeeQuery query) {
+        final var named = byTrigram.candidates(query.nameContains());
+        final Map<?, MockEmployee> range;
+        if (query.order() == EmployeeQuery.Order.ROSTER) {
+            final NavigableMap<Long, MockEmployee> sequences = named == null ? bySequence : lookUp(named);
+            range = query.cursor() == null ? sequences : sequences.tailMap(parseSequence(query.cursor()), false);
+        } else {
+            NavigableMap<SalaryKey, MockEmployee> salaries = named == null ? bySalary : bySalary(lookUp(named));
+            salaries = salaries.subMap(
+                    new SalaryKey(query.minSalary() == null ? Integer.MIN_VALUE : query.minSalary(), Long.MAX_VALUE),
+                    true,
+                    new SalaryKey(query.maxSalary() == null ? Integer.MAX_VALUE : query.maxSalary(), Long.MIN_VALUE),
+                    true);
+            if (query.order() == EmployeeQuery.Order.SALARY_DESCENDING) {
+                salaries = salaries.descendingMap();
+            }
+            range = query.cursor() == null ? salaries : salaries.tailMap(SalaryKey.parse(query.cursor()), false);
+        }
+
+        final var employees = new ArrayList<MockEmployee>(Math.min(query.limit(), 64));
+        Object last = null;
+        for (final var entry : range.entrySet()) {
+            if (!query.matches(entry.getValue())) {
+                continue;
+            }
+            if (employees.size() == query.limit()) {
+                return new Page(employees, String.valueOf(last));
+            }
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new Page(employees, null);
+    }
+
+    @Override
+    public long version() {
+        return changeLog.latest();
+    }
+
+    @Override
+    public Optional<List<ChangeLog.Change>> changesSince(long version) {
+        return changeLog.since(version);
+    }
+
+    @Override
+    public int size() {
+        return bySequence.size();
+    }
+
+    /**
+     * @return the employees still stored under {@code sequences}, by sequence
+     */
+    private NavigableMap<Long, MockEmployee> lookUp(long[] sequences) {
+        final var employees = new TreeMap<Long, MockEmployee>();
+        for (final long sequence : sequences) {
+            final var employee = bySequence.get(sequence);
+            if (employee != null) {
+                employees.put(sequence, employee);
+            }
+        }
+        return employees;
+    }
+
+    private static NavigableMap<SalaryKey, MockEmployee> bySalary(NavigableMap<Long, MockEmployee> bySequence) {
+        final var employees = new TreeMap<SalaryKey, MockEmployee>();
+        bySequence.forEach((sequence, employee) -> {
+            if (employee.getSalary() != null) {
+                employees.put(new SalaryKey(employee.getSalary(), sequence), employee);
+            }
+        });
+        return employees;
+    }
+
+    private static long parseSequence(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static int indexOf(Entry[] bucket, Entry entry) {
+        for (int i = 0; i < bucket.length; i++) {
+            if (bucket[i] == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts by sequence rather than appending, since concurrent adds of one name can reach the bucket out of order.
+     */
+    private static Entry[] insert(Entry[] bucket, Entry entry) {
+        if (bucket == null) {
+            return new Entry[] {entry};
+        }
+        int position = bucket.length;
+        while (position > 0 && bucket[position - 1].sequence() > entry.sequence()) {
+            position--;
+        }
+        final var updated = new Entry[bucket.length + 1];
+        System.arraycopy(bucket, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(bucket, position, updated, position + 1, bucket.length - position);
+        return updated;
+    }
+
+    /**
+     * @return the version to number changes after so that adding {@code employees} ends at {@code version}
+     */
+    static long startingVersion(Collection<MockEmployee> employees, long version) {
+        if (version < employees.size()) {
+            throw new IllegalArgumentException(
+                    "Version " + version + " is below the " + employees.size() + " employees it covers");
+        }
+        return version - employees.size();
+    }
+
+    /**
+     * Folds case the same way {@link String#equalsIgnoreCase(String)} compares characters, so two names get the same
+     * key exactly when they are equal ignoring case.
+     */
+    static String foldCase(String name) {
+        final var folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+
+    /**
+     * Orders by salary and then by sequence in reverse, so that walking the index backwards yields the highest
+     * salaries first with ties in roster order. Its string form is the cursor of a page that ended on it.
+     */
+    private record SalaryKey(int salary, long sequence) implements Comparable<SalaryKey> {
+
+        private static final Comparator<SalaryKey> ORDER = Comparator.comparingInt(SalaryKey::salary)
+                .thenComparing(SalaryKey::sequence, Comparator.reverseOrder());
+
+        static SalaryKey parse(String cursor) {
+            final int separator = cursor.indexOf(':');
+            try {
+                return new SalaryKey(
+                        Integer.parseInt(cursor.substring(0, Math.max(separator, 0))),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+
+        @Override
+        public int compareTo(SalaryKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public String toString() {
+            return salary + ":" + sequence;
+        }
+    }
+}
@@ -0,0 +1,822 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import lombok.NonNull;
+
+/**
+ * {@link EmployeeStore} keeping employees in direct memory, so a roster of millions adds almost nothing for the garbage
+ * collector to trace.
+ * <p>
+ * Each employee is a fixed-width record in one direct buffer: its id as two longs, sequence, salary, age, presence
+ * flags, links to its neighbours in roster order and to the next record whose name hashes alike, and where its name,
+ * title and email sit in a string arena, a second direct buffer holding them as length-prefixed UTF-8. Deleted
+ * records go on a free list that later adds take from first; the arena is compacted when it fills up and at least
+ * half of it belongs to deleted records. Both buffers double when full, up to 2GB each.
+ * <p>
+ * Two open-addressing tables in direct memory index the records. One maps the hash of an id's two longs to the first
+ * record with that id; the other maps the hash of a case-folded name to the chain of records whose names hash alike,
+ * in roster order, so deleting by name walks one short chain to the earliest match. A {@link TrigramIndex} of slots,
+ * whose postings are primitive arrays on the heap, lets a query for a name part of three or more characters visit only
+ * the records under its rarest trigram.
+ * <p>
+ * Reads share a lock that writes take exclusively. Snapshots and queries decode employees as they walk the records
+ * and keep nothing: every {@link #snapshot()} decodes the whole roster, which callers that read it often should
+ * cache by {@link #version()}, and a query page without such a name part scans the whole roster rather than an
+ * ordered index.
+ */
+public class OffHeapEmployeeStore implements EmployeeStore {
+
+    private static final int NONE = -1;
+
+    private static final int ID_MOST = 0;
+    private static final int ID_LEAST = 8;
+    private static final int SEQUENCE = 16;
+    private static final int SALARY = 24;
+    private static final int AGE = 28;
+    private static final int FLAGS = 32;
+    private static final int PREVIOUS = 36;
+    private static final int NEXT = 40;
+    private static final int NEXT_BY_NAME = 44;
+    private static final int STRINGS = 48;
+    private static final int STRINGS_LENGTH = 52;
+    private static final int RECORD_BYTES = 56;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+    private static final int ID_INDEXED = 1 << 6;
+
+    private static final int MIN_RECORDS = 16;
+    private static final int ARENA_BYTES_PER_RECORD = 64;
+
+    private final ChangeLog changeLog;
+    private volatile EmployeeJournal journal = EmployeeJournal.NONE;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ByteBuffer records;
+    private int used;
+    private int free = NONE;
+    private int size;
+    private int head = NONE;
+    private int tail = NONE;
+
+    private ByteBuffer arena;
+    private int arenaEnd;
+    private long arenaGarbage;
+
+    private final HashTable byId;
+    private final HashTable byName;
+    private final TrigramIndex byTrigram = new TrigramIndex();
+
+    public OffHeapEmployeeStore() {
+        this(DEFAULT_RETAINED_CHANGES, MIN_RECORDS, 0);
+    }
+
+    /**
+     * @param retainedChanges how many of the latest changes {@link #changesSince(long)} can replay
+     * @param expectedEmployees how many employees to size the buffers for up front
+     * @param version the version to number changes after
+     */
+    public OffHeapEmployeeStore(int retainedChanges, int expectedEmployees, long version) {
+        this.changeLog = new ChangeLog(retainedChanges, version);
+        final int capacity = Math.max(expectedEmployees, MIN_RECORDS);
+        this.records = allocate((long) capacity * RECORD_BYTES).order(ByteOrder.nativeOrder());
+        this.arena = allocate((long) capacity * ARENA_BYTES_PER_RECORD);
+        this.byId = new HashTable(capacity);
+        this.byName = new HashTable(capacity);
+    }
+
+    public static OffHeapEmployeeStore of(@NonNull Collection<MockEmployee> employees, int retainedChanges) {
+        return of(employees, retainedChanges, employees.size());
+    }
+
+    /**
+     * @param version the store's version once the employees are added, at least their count
+     */
+    public static OffHeapEmployeeStore of(
+            @NonNull Collection<MockEmployee> employees, int retainedChanges, long version) {
+        final var store = new OffHeapEmployeeStore(
+                retainedChanges, employees.size(), HeapEmployeeStore.startingVersion(employees, version));
+        employees.forEach(store::add);
+        return store;
+    }
+
+    @Override
+    public void setJournal(@NonNull EmployeeJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public MockEmployee add(@NonNull MockEmployee employee) {
+        EmployeeCodec.checkEncodable(employee);
+        final ChangeLog.Change change;
+        lock.writeLock().lock();
+        try {
+            change = insert(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.append(change);
+        return employee;
+    }
+
+    @Override
+    public List<MockEmployee> addAll(@NonNull List<MockEmployee> employees) {
+        employees.forEach(EmployeeCodec::checkEncodable);
+        final var changes = new ArrayList<ChangeLog.Change>(employees.size());
+        lock.writeLock().lock();
+        try {
+            for (final var employee : employees) {
+                changes.add(insert(employee));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.appendAll(changes);
+        return employees;
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        lock.readLock().lock();
+        try {
+            final int entry = findId(id);
+            return entry == NONE ? Optional.empty() : Optional.of(decode(byId.first(entry)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        final ChangeLog.Change change;
+        lock.writeLock().lock();
+        try {
+            change = removeFirstNamed(name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return journaled(change);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+        final var changes = new ArrayList<ChangeLog.Change>(names.size());
+        lock.writeLock().lock();
+        try {
+            for (final var name : names) {
+                final var change = removeFirstNamed(name);
+                removed.add(change == null ? Optional.empty() : Optional.of(change.employee()));
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.appendAll(changes);
+        return removed;
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        final ChangeLog.Change change;
+        lock.writeLock().lock();
+        try {
+            change = removeWithId(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return journaled(change);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeByIds(@NonNull List<UUID> ids) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(ids.size());
+        final var changes = new ArrayList<ChangeLog.Change>(ids.size());
+        lock.writeLock().lock();
+        try {
+            for (final var id : ids) {
+                final var change = removeWithId(id);
+                removed.add(change == null ? Optional.empty() : Optional.of(change.employee()));
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.appendAll(changes);
+        return removed;
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return snapshot().employees();
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            final var employees = new ArrayList<MockEmployee>(size);
+            for (int slot = head; slot != NONE; slot = records.getInt(offset(slot) + NEXT)) {
+                employees.add(decode(slot));
+            }
+            return new Snapshot(changeLog.latest(), Collections.unmodifiableList(employees));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page query(@NonNull EmployeeQuery query) {
+        lock.readLock().lock();
+        try {
+            final var named = byTrigram.candidates(query.nameContains());
+            return named == null && query.order() == EmployeeQuery.Order.ROSTER
+                    ? queryRoster(query)
+                    : select(query, named);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return changeLog.latest();
+    }
+
+    @Override
+    public Optional<List<ChangeLog.Change>> changesSince(long version) {
+        return changeLog.since(version);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<MockEmployee> journaled(ChangeLog.Change change) {
+        if (change == null) {
+            return Optional.empty();
+        }
+        journal.append(change);
+        return Optional.of(change.employee());
+    }
+
+    /*
+     * Called with the write lock held, as are all the methods below that change the buffers.
+     */
+    private ChangeLog.Change insert(MockEmployee employee) {
+        final var name = EmployeeCodec.utf8(employee.getName());
+        final var title = EmployeeCodec.utf8(employee.getTitle());
+        final var email = EmployeeCodec.utf8(employee.getEmail());
+        final int stringsLength = stringLength(name) + stringLength(title) + stringLength(email);
+        final int slot = allocateRecord();
+        final int stringsOffset = allocateStrings(stringsLength);
+        final var change = changeLog.append(ChangeLog.Change.Type.CREATED, employee);
+
+        int flags = 0;
+        final int record = offset(slot);
+        if (employee.getId() != null) {
+            flags |= HAS_ID;
+            records.putLong(record + ID_MOST, employee.getId().getMostSignificantBits());
+            records.putLong(record + ID_LEAST, employee.getId().getLeastSignificantBits());
+        }
+        if (employee.getSalary() != null) {
+            flags |= HAS_SALARY;
+            records.putInt(record + SALARY, employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            flags |= HAS_AGE;
+            records.putInt(record + AGE, employee.getAge());
+        }
+        flags |= name != null ? HAS_NAME : 0;
+        flags |= title != null ? HAS_TITLE : 0;
+        flags |= email != null ? HAS_EMAIL : 0;
+        records.putLong(record + SEQUENCE, change.sequence());
+        records.putInt(record + STRINGS, stringsOffset);
+        records.putInt(record + STRINGS_LENGTH, stringsLength);
+        arena.position(stringsOffset);
+        EmployeeCodec.putString(arena, name);
+        EmployeeCodec.putString(arena, title);
+        EmployeeCodec.putString(arena, email);
+
+        records.putInt(record + PREVIOUS, tail);
+        records.putInt(record + NEXT, NONE);
+        if (tail == NONE) {
+            head = slot;
+        } else {
+            records.putInt(offset(tail) + NEXT, slot);
+        }
+        tail = slot;
+
+        if (employee.getId() != null && findId(employee.getId()) == NONE) {
+            flags |= ID_INDEXED;
+            byId.insert(hash(employee.getId()), slot, slot);
+        }
+        records.putInt(record + NEXT_BY_NAME, NONE);
+        if (employee.getName() != null) {
+            byTrigram.add(employee.getName(), slot);
+            final int hash = hash(employee.getName());
+            final int entry = byName.find(hash, chain -> true);
+            if (entry == NONE) {
+                byName.insert(hash, slot, slot);
+            } else {
+                records.putInt(offset(byName.last(entry)) + NEXT_BY_NAME, slot);
+                byName.setLast(entry, slot);
+            }
+        }
+        records.putInt(record + FLAGS, flags);
+        size++;
+        return change;
+    }
+
+    private ChangeLog.Change removeFirstNamed(String name) {
+        final int entry = byName.find(hash(name), chain -> true);
+        if (entry == NONE) {
+            return null;
+        }
+        for (int slot = byName.first(entry); slot != NONE; slot = records.getInt(offset(slot) + NEXT_BY_NAME)) {
+            if (name.equalsIgnoreCase(decodeName(slot))) {
+                return remove(slot);
+            }
+        }
+        return null;
+    }
+
+    private ChangeLog.Change removeWithId(UUID id) {
+        final int entry = findId(id);
+        return entry == NONE ? null : remove(byId.first(entry));
+    }
+
+    /*
+     * Unlinks a record from the roster and the indexes it is in, and puts its slot on the free list.
+     */
+    private ChangeLog.Change remove(int slot) {
+        final var employee = decode(slot);
+        final int record = offset(slot);
+
+        final int previous = records.getInt(record + PREVIOUS);
+        final int next = records.getInt(record + NEXT);
+        if (previous == NONE) {
+            head = next;
+        } else {
+            records.putInt(offset(previous) + NEXT, next);
+        }
+        if (next == NONE) {
+            tail = previous;
+        } else {
+            records.putInt(offset(next) + PREVIOUS, previous);
+        }
+
+        if (has(slot, ID_INDEXED)) {
+            byId.remove(byId.find(hash(employee.getId()), indexed -> indexed == slot));
+        }
+        if (employee.getName() != null) {
+            unlinkName(slot, employee.getName());
+        }
+
+        arenaGarbage += records.getInt(record + STRINGS_LENGTH);
+        records.putInt(record + FLAGS, 0);
+        records.putInt(record + NEXT, free);
+        free = slot;
+        size--;
+        return changeLog.append(ChangeLog.Change.Type.DELETED, employee);
+    }
+
+    private void unlinkName(int slot, String name) {
+        byTrigram.remove(name, slot);
+        final int entry = byName.find(hash(name), chain -> true);
+        final int following = records.getInt(offset(slot) + NEXT_BY_NAME);
+        int preceding = NONE;
+        for (int chained = byName.first(entry);
+                chained != slot;
+                chained = records.getInt(offset(chained) + NEXT_BY_NAME)) {
+            preceding = chained;
+        }
+        if (preceding == NONE && following == NONE) {
+            byName.remove(entry);
+        } else {
+            if (preceding == NONE) {
+                byName.setFirst(entry, following);
+            } else {
+                records.putInt(offset(preceding) + NEXT_BY_NAME, following);
+            }
+            if (following == NONE) {
+                byName.setLast(entry, preceding);
+            }
+        }
+    }
+
+    private int allocateRecord() {
+        if (free != NONE) {
+            final int slot = free;
+            free = records.getInt(offset(slot) + NEXT);
+            return slot;
+        }
+        final int capacity = records.capacity() / RECORD_BYTES;
+        if (used == capacity) {
+            final var grown = allocate((long) capacity * 2 * RECORD_BYTES).order(ByteOrder.nativeOrder());
+            grown.put(0, records, 0, used * RECORD_BYTES);
+            records = grown;
+        }
+        return used++;
+    }
+
+    /**
+     * @return where {@code length} bytes of strings can be written, compacting or growing the arena first if needed
+     */
+    private int allocateStrings(int length) {
+        if (arenaEnd + (long) length > arena.capacity()) {
+            final long live = arenaEnd - arenaGarbage;
+            final long needed = live + length;
+            final long capacity = arenaGarbage * 2 >= arenaEnd && needed <= arena.capacity()
+                    ? arena.capacity()
+                    : Math.max(needed, (long) arena.capacity() * 2);
+            compactInto(allocate(capacity));
+        }
+        final int offset = arenaEnd;
+        arenaEnd += length;
+        return offset;
+    }
+
+    /**
+     * Copies the strings of the live records, in roster order, to the start of {@code target}.
+     */
+    private void compactInto(ByteBuffer target) {
+        int end = 0;
+        for (int slot = head; slot != NONE; slot = records.getInt(offset(slot) + NEXT)) {
+            final int record = offset(slot);
+            final int length = records.getInt(record + STRINGS_LENGTH);
+            target.put(end, arena, records.getInt(record + STRINGS), length);
+            records.putInt(record + STRINGS, end);
+            end += length;
+        }
+        arena = target;
+        arenaEnd = end;
+        arenaGarbage = 0;
+    }
+
+    private Page queryRoster(EmployeeQuery query) {
+        int slot = head;
+        if (query.cursor() != null) {
+            final long after = parseSequence(query.cursor());
+            while (slot != NONE && sequence(slot) <= after) {
+                slot = records.getInt(offset(slot) + NEXT);
+            }
+        }
+        final var employees = new ArrayList<MockEmployee>(Math.min(query.limit(), 64));
+        long last = 0;
+        for (; slot != NONE; slot = records.getInt(offset(slot) + NEXT)) {
+            final var employee = decode(slot);
+            if (!query.matches(employee)) {
+                continue;
+            }
+            if (employees.size() == query.limit()) {
+                return new Page(employees, String.valueOf(last));
+            }
+            employees.add(employee);
+            last = sequence(slot);
+        }
+        return new Page(employees, null);
+    }
+
+    /**
+     * Keeps the best {@code limit + 1} matches after the cursor in a heap whose root is the worst of them, so a page
+     * costs one pass and memory for the page alone. The extra match only tells whether there is a next page. The pass
+     * covers the slots {@code named} by the trigram index, or the whole roster when that is {@code null}.
+     */
+    private Page select(EmployeeQuery query, long[] named) {
+        final var order = query.order();
+        final boolean bySalary = order != EmployeeQuery.Order.ROSTER;
+        final int minSalary = query.minSalary() == null ? Integer.MIN_VALUE : query.minSalary();
+        final int maxSalary = query.maxSalary() == null ? Integer.MAX_VALUE : query.maxSalary();
+        int cursorSalary = 0;
+        long cursorSequence = 0;
+        if (query.cursor() != null && !bySalary) {
+            cursorSequence = parseSequence(query.cursor());
+        } else if (query.cursor() != null) {
+            final int separator = query.cursor().indexOf(':');
+            try {
+                cursorSalary = Integer.parseInt(query.cursor().substring(0, Math.max(separator, 0)));
+                cursorSequence = Long.parseLong(query.cursor().substring(separator + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + query.cursor(), e);
+            }
+        }
+
+        final int candidates = named == null ? size : named.length;
+        final var kept = new int[(int) Math.min((long) query.limit() + 1, candidates + 1L)];
+        int count = 0;
+        int next = 0;
+        for (int slot = named == null ? head : nextNamed(named, next++);
+                slot != NONE;
+                slot = named == null ? records.getInt(offset(slot) + NEXT) : nextNamed(named, next++)) {
+            final int salary = records.getInt(offset(slot) + SALARY);
+            if (bySalary && (!has(slot, HAS_SALARY) || salary < minSalary || salary > maxSalary)) {
+                continue;
+            }
+            if ((query.cursor() != null && compare(salary, sequence(slot), cursorSalary, cursorSequence, order) <= 0)
+                    || !query.matches(decode(slot))) {
+                continue;
+            }
+            if (count < kept.length) {
+                kept[count] = slot;
+                siftUp(kept, count++, order);
+            } else if (compare(slot, kept[0], order) < 0) {
+                kept[0] = slot;
+                siftDown(kept, count, order);
+            }
+        }
+
+        // Popping the worst off the heap fills the page from its end.
+        final var ordered = new int[count];
+        for (int remaining = count; remaining > 0; remaining--) {
+            ordered[remaining - 1] = kept[0];
+            kept[0] = kept[remaining - 1];
+            siftDown(kept, remaining - 1, order);
+        }
+        final int pageSize = Math.min(count, query.limit());
+        final var employees = new ArrayList<MockEmployee>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            employees.add(decode(ordered[i]));
+        }
+        if (count <= query.limit()) {
+            return new Page(employees, null);
+        }
+        final int last = ordered[pageSize - 1];
+        final var cursor = bySalary
+                ? records.getInt(offset(last) + SALARY) + ":" + sequence(last)
+                : String.valueOf(sequence(last));
+        return new Page(employees, cursor);
+    }
+
+    private static int nextNamed(long[] named, int index) {
+        return index < named.length ? (int) named[index] : NONE;
+    }
+
+    /**
+     * Orders like the {@link HeapEmployeeStore} index the query walks: by sequence in roster order, and otherwise by
+     * salary in the query's direction with ties in roster order when descending and in reverse roster order when
+     * ascending.
+     */
+    private static int compare(
+            int salary, long sequence, int otherSalary, long otherSequence, EmployeeQuery.Order order) {
+        if (order == EmployeeQuery.Order.ROSTER) {
+            return Long.compare(sequence, otherSequence);
+        }
+        final int bySalary = Integer.compare(salary, otherSalary);
+        final int ascending = bySalary != 0 ? bySalary : Long.compare(otherSequence, sequence);
+        return order == EmployeeQuery.Order.SALARY_DESCENDING ? -ascending : ascending;
+    }
+
+    private int compare(int slot, int other, EmployeeQuery.Order order) {
+        return compare(
+                records.getInt(offset(slot) + SALARY),
+                sequence(slot),
+                records.getInt(offset(other) + SALARY),
+                sequence(other),
+                order);
+    }
+
+    /*
+     * Max-heap by query order, so the root is the worst match kept.
+     */
+    private void siftUp(int[] heap, int index, EmployeeQuery.Order order) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (compare(heap[index], heap[parent], order) <= 0) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int count, EmployeeQuery.Order order) {
+        int index = 0;
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= count) {
+                return;
+            }
+            final int right = left + 1;
+            final int larger = right < count && compare(heap[right], heap[left], order) > 0 ? right : left;
+            if (compare(heap[larger], heap[index], order) <= 0) {
+                return;
+            }
+            swap(heap, index, larger);
+            index = larger;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        final int swapped = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swapped;
+    }
+
+    private int findId(UUID id) {
+        final long most = id.getMostSignificantBits();
+        final long least = id.getLeastSignificantBits();
+        return byId.find(hash(id), slot -> records.getLong(offset(slot) + ID_MOST) == most
+                && records.getLong(offset(slot) + ID_LEAST) == least);
+    }
+
+    private MockEmployee decode(int slot) {
+        final int record = offset(slot);
+        final int flags = records.getInt(record + FLAGS);
+        final var id = (flags & HAS_ID) != 0
+                ? new UUID(records.getLong(record + ID_MOST), records.getLong(record + ID_LEAST))
+                : null;
+        final var salary = (flags & HAS_SALARY) != 0 ? records.getInt(record + SALARY) : null;
+        final var age = (flags & HAS_AGE) != 0 ? records.getInt(record + AGE) : null;
+        final var strings = arena.slice(records.getInt(record + STRINGS), records.getInt(record + STRINGS_LENGTH));
+        final var name = (flags & HAS_NAME) != 0 ? EmployeeCodec.getString(strings) : null;
+        final var title = (flags & HAS_TITLE) != 0 ? EmployeeCodec.getString(strings) : null;
+        final var email = (flags & HAS_EMAIL) != 0 ? EmployeeCodec.getString(strings) : null;
+        return new MockEmployee(id, name, salary, age, title, email);
+    }
+
+    /**
+     * The name comes first among the strings, so it decodes without the others.
+     */
+    private String decodeName(int slot) {
+        final int record = offset(slot);
+        return EmployeeCodec.getString(
+                arena.slice(records.getInt(record + STRINGS), records.getInt(record + STRINGS_LENGTH)));
+    }
+
+    private boolean has(int slot, int flag) {
+        return (records.getInt(offset(slot) + FLAGS) & flag) != 0;
+    }
+
+    private long sequence(int slot) {
+        return records.getLong(offset(slot) + SEQUENCE);
+    }
+
+    private static int offset(int slot) {
+        return slot * RECORD_BYTES;
+    }
+
+    private static int stringLength(byte[] utf8) {
+        return utf8 == null ? 0 : Short.BYTES + utf8.length;
+    }
+
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap store cannot grow past " + Integer.MAX_VALUE + " bytes");
+        }
+        return ByteBuffer.allocateDirect((int) bytes);
+    }
+
+    private static long parseSequence(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static int hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits());
+    }
+
+    private static int hash(String name) {
+        return mix(HeapEmployeeStore.foldCase(name).hashCode());
+    }
+
+    private static int mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (value ^ (value >>> 33));
+    }
+
+    /**
+     * Open-addressing hash table in direct memory with linear probing. Each entry is a hash and the first and last
+     * record of what it indexes; deletes shift later entries back instead of leaving tombstones.
+     */
+    private static final class HashTable {
+
+        private static final int HASH = 0;
+        private static final int FIRST = 4;
+        private static final int LAST = 8;
+        private static final int ENTRY_BYTES = 12;
+
+        private ByteBuffer entries;
+        private int mask;
+        private int size;
+
+        HashTable(int expected) {
+            entries = allocateEntries(Integer.highestOneBit(Math.max(expected, MIN_RECORDS) * 2 - 1) * 2);
+        }
+
+        /**
+         * @return the first entry with {@code hash} whose first record passes {@code matches}, or {@link #NONE}
+         */
+        int find(int hash, IntPredicate matches) {
+            for (int entry = hash & mask; first(entry) != NONE; entry = (entry + 1) & mask) {
+                if (entries.getInt(entry * ENTRY_BYTES + HASH) == hash && matches.test(first(entry))) {
+                    return entry;
+                }
+            }
+            return NONE;
+        }
+
+        void insert(int hash, int first, int last) {
+            if ((size + 1) * 3L > (mask + 1) * 2L) {
+                grow();
+            }
+            int entry = hash & mask;
+            while (first(entry) != NONE) {
+                entry = (entry + 1) & mask;
+            }
+            put(entry, hash, first, last);
+            size++;
+        }
+
+        void remove(int entry) {
+            int hole = entry;
+            for (int next = (hole + 1) & mask; first(next) != NONE; next = (next + 1) & mask) {
+                final int home = entries.getInt(next * ENTRY_BYTES + HASH) & mask;
+                // Move the entry back into the hole unless its home lies cyclically between the hole and it.
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    put(hole, entries.getInt(next * ENTRY_BYTES + HASH), first(next), last(next));
+                    hole = next;
+                }
+            }
+            entries.putInt(hole * ENTRY_BYTES + FIRST, NONE);
+            size--;
+        }
+
+        int first(int entry) {
+            return entries.getInt(entry * ENTRY_BYTES + FIRST);
+        }
+
+        int last(int entry) {
+            return entries.getInt(entry * ENTRY_BYTES + LAST);
+        }
+
+        void setFirst(int entry, int first) {
+            entries.putInt(entry * ENTRY_BYTES + FIRST, first);
+        }
+
+        void setLast(int entry, int last) {
+            entries.putInt(entry * ENTRY_BYTES + LAST, last);
+        }
+
+        private void put(int entry, int hash, int first, int last) {
+            entries.putInt(entry * ENTRY_BYTES + HASH, hash);
+            entries.putInt(entry * ENTRY_BYTES + FIRST, first);
+            entries.putInt(entry * ENTRY_BYTES + LAST, last);
+        }
+
+        private void grow() {
+            final var old = entries;
+            final int oldCapacity = mask + 1;
+            entries = allocateEntries(oldCapacity * 2);
+            for (int entry = 0; entry < oldCapacity; entry++) {
+                final int first = old.getInt(entry * ENTRY_BYTES + FIRST);
+                if (first != NONE) {
+                    final int hash = old.getInt(entry * ENTRY_BYTES + HASH);
+                    int target = hash & mask;
+                    while (first(target) != NONE) {
+                        target = (target + 1) & mask;
+                    }
+                    put(target, hash, first, old.getInt(entry * ENTRY_BYTES + LAST));
+                }
+            }
+        }
+
+        private ByteBuffer allocateEntries(int capacity) {
+            final var allocated = allocate((long) capacity * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+            for (int entry = 0; entry < capacity; entry++) {
+                allocated.putInt(entry * ENTRY_BYTES + FIRST, NONE);
+            }
+            mask = capacity - 1;
+            return allocated;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32C;
+import lombok.NonNull;
+
+/**
+ * Binary roster snapshot: a header with a magic number, format version, the store version the roster was taken at and
+ * the employee count, the employees encoded by {@link EmployeeCodec} in roster order, and a CRC32C of everything after
+ * the format version. Snapshots of the first format, which had no store version, read as the version reached by
+ * adding their employees.
+ * <p>
+ * Snapshots are written to a temporary file, forced to disk and then moved over the previous one, so a crash leaves
+ * either the old or the new snapshot in place; the directory is forced after the move, so once {@link #write} returns
+ * the new one survives a crash. They are read back by memory-mapping the file.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT_VERSION = 2;
+    private static final int UNVERSIONED_FORMAT = 1;
+    private static final int CHECKED_FROM = 2 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private SnapshotFile() {}
+
+    public static void write(@NonNull Path file, @NonNull EmployeeStore.Snapshot snapshot) throws IOException {
+        final var employees = snapshot.employees();
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(snapshot.version()).putInt(employees.size());
+            final var checksum = new CRC32C();
+            checksum.update(buffer.duplicate().flip().position(CHECKED_FROM));
+            for (final var employee : employees) {
+                final var record = EmployeeCodec.encode(employee);
+                checksum.update(record);
+                if (buffer.remaining() < record.length) {
+                    drain(channel, buffer);
+                }
+                if (record.length > buffer.capacity()) {
+                    writeFully(channel, ByteBuffer.wrap(record));
+                } else {
+                    buffer.put(record);
+                }
+            }
+            if (buffer.remaining() < Long.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(checksum.getValue());
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * @return the store version and the employees in the snapshot, in roster order
+     * @throws IOException if the file cannot be read or is not an intact snapshot
+     */
+    public static EmployeeStore.Snapshot read(@NonNull Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + file + " is too large to map");
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                final int format = buffer.getInt() == MAGIC ? buffer.getInt() : -1;
+                if (format != FORMAT_VERSION && format != UNVERSIONED_FORMAT) {
+                    throw new IOException("Not a roster snapshot: " + file);
+                }
+                final long version = format == FORMAT_VERSION ? buffer.getLong() : -1;
+                final int checkedFrom = format == FORMAT_VERSION ? CHECKED_FROM : buffer.position() + Integer.BYTES;
+                final int count = buffer.getInt();
+                final var employees = new ArrayList<MockEmployee>(count);
+                for (int i = 0; i < count; i++) {
+                    employees.add(EmployeeCodec.decode(buffer));
+                }
+                final var checksum = new CRC32C();
+                checksum.update(buffer.duplicate().position(checkedFrom).limit(buffer.position()));
+                if (buffer.getLong() != checksum.getValue()) {
+                    throw new IOException("Snapshot " + file + " is corrupt");
+                }
+                return new EmployeeStore.Snapshot(version < 0 ? count : version, employees);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Snapshot " + file + " is truncated", e);
+            }
+        }
+    }
+
+    /*
+     * The rename lives in the directory entry, not in either file, so until the directory is forced a crash can bring
+     * back the old snapshot after the log it covered has been emptied.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        try (final var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an {@link EmployeeStore} on disk as a {@link SnapshotFile} plus a {@link WriteAheadLog} of the writes made
+ * since that snapshot.
+ * <p>
+ * Loading maps the snapshot, or generates and snapshots a fresh roster when there is none, and then replays the log on
+ * top of it. The snapshot records the store version it was taken at and the restored store carries on numbering from
+ * there, so replay applies exactly the logged changes with a later sequence, in sequence order: a checkpoint can
+ * capture a write whose record only lands after the log was emptied, and concurrent writes can commit their records
+ * out of order. A load that replayed anything checkpoints right away, so the log never mixes the numbering of two
+ * runs. Closing writes a final checkpoint, so a clean shutdown starts next time from the snapshot alone.
+ * <p>
+ * While the server runs, a write that leaves the log past {@code checkpointAfterBytes} schedules a checkpoint on a
+ * background thread, so the log, and with it the next start's replay, stays bounded however long the server is up.
+ */
+@Slf4j
+public class StorePersistence implements Closeable {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+    static final String LOG_FILE = "employees.wal";
+
+    public static final long DEFAULT_CHECKPOINT_AFTER_BYTES = 64L << 20;
+
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final long checkpointAfterBytes;
+
+    private final ExecutorService checkpointer = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "store-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean checkpointScheduled = new AtomicBoolean();
+
+    private EmployeeStore store;
+    private volatile WriteAheadLog wal;
+
+    public StorePersistence(@NonNull Path directory) throws IOException {
+        this(directory, DEFAULT_CHECKPOINT_AFTER_BYTES);
+    }
+
+    /**
+     * @param checkpointAfterBytes size the log may reach before a write schedules a checkpoint
+     */
+    public StorePersistence(@NonNull Path directory, long checkpointAfterBytes) throws IOException {
+        if (checkpointAfterBytes < 1) {
+            throw new IllegalArgumentException("Checkpoint threshold must be positive: " + checkpointAfterBytes);
+        }
+        Files.createDirectories(directory);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.logFile = directory.resolve(LOG_FILE);
+        this.checkpointAfterBytes = checkpointAfterBytes;
+    }
+
+    /**
+     * @param generator supplies the roster when the directory holds no snapshot yet
+     * @return the persisted store, journaling every later write to the log
+     */
+    public EmployeeStore load(int retainedChanges, @NonNull Supplier<List<MockEmployee>> generator)
+            throws IOException {
+        return load(EmployeeStore.Backend.HEAP, retainedChanges, generator);
+    }
+
+    /**
+     * @param backend where the loaded store keeps its employees
+     * @param generator supplies the roster when the directory holds no snapshot yet
+     * @return the persisted store, journaling every later write to the log
+     */
+    public synchronized EmployeeStore load(
+            @NonNull EmployeeStore.Backend backend,
+            int retainedChanges,
+            @NonNull Supplier<List<MockEmployee>> generator)
+            throws IOException {
+        if (store != null) {
+            throw new IllegalStateException("Store already loaded from " + snapshotFile.getParent());
+        }
+        final long started = System.nanoTime();
+        final boolean restored = Files.exists(snapshotFile);
+        final var snapshot = restored ? SnapshotFile.read(snapshotFile) : generated(generator.get());
+        final var loaded = backend.create(snapshot.employees(), retainedChanges, snapshot.version());
+        final var logged = new ArrayList<ChangeLog.Change>();
+        wal = WriteAheadLog.open(logFile, change -> {
+            if (change.sequence() > snapshot.version()) {
+                logged.add(change);
+            }
+        });
+        logged.sort(Comparator.comparingLong(ChangeLog.Change::sequence));
+        for (final var change : logged) {
+            final var employee = change.employee();
+            if (change.type() == ChangeLog.Change.Type.DELETED) {
+                if (employee.getId() != null) {
+                    loaded.removeById(employee.getId());
+                }
+            } else if (employee.getId() == null || loaded.findById(employee.getId()).isEmpty()) {
+                loaded.add(employee);
+            }
+        }
+        loaded.setJournal(new CheckpointingJournal(wal));
+        store = loaded;
+        if (!restored || !logged.isEmpty()) {
+            checkpoint();
+        }
+        log.info(
+                "Loaded {} employees from {} in {} ms, replaying {} logged changes",
+                loaded.size(),
+                restored ? snapshotFile : "the generator",
+                (System.nanoTime() - started) / 1_000_000,
+                logged.size());
+        return loaded;
+    }
+
+    /*
+     * A generated roster is numbered as if its employees had been added one by one.
+     */
+    private static EmployeeStore.Snapshot generated(List<MockEmployee> employees) {
+        return new EmployeeStore.Snapshot(employees.size(), employees);
+    }
+
+    /**
+     * Writes the store's current roster to the snapshot and empties the log.
+     */
+    public synchronized void checkpoint() throws IOException {
+        if (store == null) {
+            return;
+        }
+        final var current = store;
+        wal.checkpoint(() -> SnapshotFile.write(snapshotFile, current.snapshot()));
+    }
+
+    /*
+     * Called after every write. At most one checkpoint is queued at a time, and writes made while it runs only wait
+     * for the snapshot to be written, as they would for any checkpoint.
+     */
+    private void checkpointIfLarge(WriteAheadLog target) {
+        if (target.size() < checkpointAfterBytes || !checkpointScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        checkpointer.execute(() -> {
+            try {
+                checkpoint();
+            } catch (IOException | RuntimeException e) {
+                log.error("Background checkpoint failed; the log keeps growing until one succeeds", e);
+            } finally {
+                checkpointScheduled.set(false);
+            }
+        });
+    }
+
+    /**
+     * @return how many times the log has been forced to disk, {@code 0} before the store is loaded
+     */
+    public long getCommits() {
+        final var current = wal;
+        return current == null ? 0 : current.getCommits();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        checkpointer.shutdown();
+        if (store == null) {
+            return;
+        }
+        try {
+            checkpoint();
+        } finally {
+            store.setJournal(EmployeeJournal.NONE);
+            wal.close();
+            store = null;
+        }
+    }
+
+    /**
+     * Journals to the log, then checks whether the log has grown enough to fold into the snapshot.
+     */
+    private final class CheckpointingJournal implements EmployeeJournal {
+
+        private final WriteAheadLog target;
+
+        CheckpointingJournal(WriteAheadLog target) {
+            this.target = target;
+        }
+
+        @Override
+        public void append(ChangeLog.Change change) {
+            target.append(change);
+            checkpointIfLarge(target);
+        }
+
+        @Override
+        public void appendAll(List<ChangeLog.Change> changes) {
+            target.appendAll(changes);
+            checkpointIfLarge(target);
+        }
+    }
+}
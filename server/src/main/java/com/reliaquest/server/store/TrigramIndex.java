@@ -0,0 +1,137 @@
+package com.reliaquest.server.store;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Trigram index over case-folded names, so that {@link EmployeeQuery#nameContains()} only has to verify the
+ * employees listed under the rarest trigram of the part it looks for rather than the whole roster.
+ * <p>
+ * Names are indexed under keys the store chooses, such as a sequence or a record slot. Each trigram's posting is a
+ * sorted array of keys that doubles when full and halves when a quarter full, so an employee costs eight bytes per
+ * distinct trigram of its name and the collector traces one array per trigram however large the roster. Adding a key
+ * at the end of a posting is amortised constant time; any other change shifts the keys after it.
+ * <p>
+ * Changes to one trigram are serialised by the map, so writers may run concurrently. Candidates are a superset of the
+ * matches, weakly consistent with concurrent writes, and callers verify each against the query.
+ */
+final class TrigramIndex {
+
+    static final int GRAM = 3;
+
+    private static final long[] NO_KEYS = new long[0];
+
+    private final ConcurrentMap<Long, Posting> postings = new ConcurrentHashMap<>();
+
+    void add(String name, long key) {
+        for (final long gram : grams(name)) {
+            postings.compute(gram, (ignored, posting) -> {
+                final var updated = posting == null ? new Posting() : posting;
+                updated.add(key);
+                return updated;
+            });
+        }
+    }
+
+    void remove(String name, long key) {
+        for (final long gram : grams(name)) {
+            postings.computeIfPresent(gram, (ignored, posting) -> posting.remove(key) ? null : posting);
+        }
+    }
+
+    /**
+     * @return in ascending order, the keys of the names that may contain {@code part} ignoring case, or {@code null}
+     *     when trigrams cannot narrow them down and every name has to be checked
+     */
+    long[] candidates(String part) {
+        if (part == null || part.length() < GRAM || part.codePointCount(0, part.length()) != part.length()) {
+            // Case-insensitive matching pairs up surrogates by code point, which trigrams of chars cannot follow.
+            return null;
+        }
+        final var folded = HeapEmployeeStore.foldCase(part);
+        Posting rarest = null;
+        int rarestSize = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            final var posting = postings.get(gram(folded, i));
+            if (posting == null) {
+                return NO_KEYS;
+            }
+            final int size = posting.size();
+            if (size < rarestSize) {
+                rarest = posting;
+                rarestSize = size;
+            }
+        }
+        return rarest.keys();
+    }
+
+    private static long[] grams(String name) {
+        final var folded = HeapEmployeeStore.foldCase(name);
+        final int count = Math.max(folded.length() - GRAM + 1, 0);
+        final var grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = gram(folded, i);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    /*
+     * Only changed inside the map's compute for its trigram; the monitor publishes changes to readers.
+     */
+    private static final class Posting {
+
+        private long[] keys = new long[2];
+        private int size;
+
+        synchronized void add(long key) {
+            if (size > 0 && keys[size - 1] < key) {
+                grow();
+                keys[size++] = key;
+                return;
+            }
+            final int position = Arrays.binarySearch(keys, 0, size, key);
+            if (position >= 0) {
+                return;
+            }
+            final int insertion = -position - 1;
+            grow();
+            System.arraycopy(keys, insertion, keys, insertion + 1, size - insertion);
+            keys[insertion] = key;
+            size++;
+        }
+
+        /**
+         * @return whether the posting is now empty
+         */
+        synchronized boolean remove(long key) {
+            final int position = Arrays.binarySearch(keys, 0, size, key);
+            if (position >= 0) {
+                System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+                size--;
+                if (size > 0 && size <= keys.length / 4) {
+                    keys = Arrays.copyOf(keys, keys.length / 2);
+                }
+            }
+            return size == 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long[] keys() {
+            return Arrays.copyOf(keys, size);
+        }
+
+        private void grow() {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.reliaquest.server.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only, durable log of creates and deletes with group commit.
+ * <p>
+ * Each record is framed as its length, a CRC32C, the change's sequence and type, and the employee in
+ * {@link EmployeeCodec} form. Concurrent writes can reach the log in a different order than the store applied them,
+ * so records are replayed by sequence rather than by position. An append returns only once its record has been
+ * forced to disk. Appends that arrive while a force is running queue up, and the first of them to find the disk free
+ * writes and forces the whole queue at once, so under concurrency many appends share one fsync.
+ * <p>
+ * A crash can leave a partly written record at the end of the file; {@link #replay} stops at the first record that is
+ * incomplete or fails its checksum, and opening the log cuts the file back to the records before it.
+ */
+@Slf4j
+public class WriteAheadLog implements EmployeeJournal, Closeable {
+
+    private static final int FRAME_BYTES = 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+
+    // Guarded by lock.
+    private List<ByteBuffer> pending = new ArrayList<>();
+    private long appended;
+    private long durable;
+    private boolean committing;
+    private IOException failure;
+
+    private final LongAdder commits = new LongAdder();
+
+    // Written only by the thread that set committing.
+    private volatile long size;
+
+    private WriteAheadLog(FileChannel channel, long size) {
+        this.channel = channel;
+        this.size = size;
+    }
+
+    public static WriteAheadLog open(@NonNull Path file) throws IOException {
+        return open(file, change -> {});
+    }
+
+    /**
+     * Replays the log into {@code consumer} and opens it for appending, dropping any torn record left at its end.
+     */
+    public static WriteAheadLog open(@NonNull Path file, @NonNull Consumer<ChangeLog.Change> consumer)
+            throws IOException {
+        final long valid = replay(file, consumer);
+        final var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (channel.size() > valid) {
+            log.warn("Dropping {} bytes of incomplete records at the end of {}", channel.size() - valid, file);
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+        return new WriteAheadLog(channel, valid);
+    }
+
+    /**
+     * Hands every intact record in {@code file} to {@code consumer}, in the order they were committed, which is not
+     * necessarily sequence order.
+     *
+     * @return the length of the intact prefix of the file, {@code 0} when it does not exist
+     */
+    public static long replay(@NonNull Path file, @NonNull Consumer<ChangeLog.Change> consumer) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Write-ahead log " + file + " is too large to map");
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var checksum = new CRC32C();
+            while (buffer.remaining() >= FRAME_BYTES) {
+                final int start = buffer.position();
+                final int length = buffer.getInt();
+                final int expected = buffer.getInt();
+                if (length < 1 || length > buffer.remaining()) {
+                    return start;
+                }
+                final var record = buffer.slice(buffer.position(), length);
+                checksum.reset();
+                checksum.update(record.duplicate());
+                if ((int) checksum.getValue() != expected) {
+                    return start;
+                }
+                try {
+                    final long sequence = record.getLong();
+                    final var type = ChangeLog.Change.Type.values()[record.get()];
+                    consumer.accept(new ChangeLog.Change(sequence, type, EmployeeCodec.decode(record)));
+                } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+                    return start;
+                }
+                buffer.position(buffer.position() + length);
+            }
+            return buffer.position();
+        }
+    }
+
+    /**
+     * Appends the change and waits until it is on disk.
+     *
+     * @throws UncheckedIOException if the log could not be written; the log accepts no further appends after that
+     */
+    @Override
+    public void append(@NonNull ChangeLog.Change change) {
+        commit(List.of(frame(change)));
+    }
+
+    /**
+     * Appends the changes and waits until all of them are on disk, which takes a single fsync when the log is idle.
+     *
+     * @throws UncheckedIOException if the log could not be written; the log accepts no further appends after that
+     */
+    @Override
+    public void appendAll(@NonNull List<ChangeLog.Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final var records = new ArrayList<ByteBuffer>(changes.size());
+        for (final var change : changes) {
+            records.add(frame(change));
+        }
+        commit(records);
+    }
+
+    private void commit(List<ByteBuffer> records) {
+        lock.lock();
+        try {
+            pending.addAll(records);
+            appended += records.size();
+            final long ticket = appended;
+            while (durable < ticket) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Write-ahead log is unavailable", failure);
+                }
+                if (committing) {
+                    committed.awaitUninterruptibly();
+                } else {
+                    commitPending();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code checkpoint}, typically writing a snapshot, while no record is being committed, then empties the log.
+     * Appends made meanwhile wait and are committed to the emptied log afterwards, so everything that happened before
+     * the checkpoint must be captured by it.
+     */
+    public void checkpoint(@NonNull IoAction checkpoint) throws IOException {
+        lock.lock();
+        try {
+            while (committing) {
+                committed.awaitUninterruptibly();
+            }
+            committing = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            checkpoint.run();
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(true);
+            size = 0;
+        } finally {
+            lock.lock();
+            try {
+                committing = false;
+                committed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return the bytes of records committed to the log since it was opened or last emptied, including those it was
+     *     opened with
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return how many fsyncs appends have shared so far
+     */
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /*
+     * Called with the lock held; releases it while writing and forcing.
+     */
+    private void commitPending() {
+        committing = true;
+        final var batch = pending;
+        final long batchEnd = appended;
+        pending = new ArrayList<>();
+        lock.unlock();
+        IOException error = null;
+        try {
+            final var buffers = batch.toArray(ByteBuffer[]::new);
+            long remaining = 0;
+            for (final var buffer : buffers) {
+                remaining += buffer.remaining();
+            }
+            final long written = remaining;
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            channel.force(false);
+            commits.increment();
+            size += written;
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            lock.lock();
+        }
+        committing = false;
+        if (error != null) {
+            log.error("Failed to commit to the write-ahead log", error);
+            failure = error;
+        } else {
+            durable = batchEnd;
+        }
+        committed.signalAll();
+    }
+
+    private static ByteBuffer frame(ChangeLog.Change change) {
+        final var employee = EmployeeCodec.encode(change.employee());
+        final int length = Long.BYTES + 1 + employee.length;
+        final var record = ByteBuffer.allocate(FRAME_BYTES + length);
+        record.position(FRAME_BYTES);
+        record.putLong(change.sequence()).put((byte) change.type().ordinal()).put(employee);
+        final var checksum = new CRC32C();
+        checksum.update(record.array(), FRAME_BYTES, length);
+        record.putInt(0, length).putInt(Integer.BYTES, (int) checksum.getValue());
+        return record.flip();
+    }
+
+    /**
+     * Work that may fail with an {@link IOException}.
+     */
+    @FunctionalInterface
+    public interface IoAction {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+/**
+ * Writes the {@link Response} bodies that carry employees with {@link MockEmployeeJsonCodec} in one {@link WireFormat};
+ * every other body, and every request body, is left to the Jackson converters behind it. Chosen by the declared return
+ * type, so {@code Response<MockEmployee>} and {@code Response<List<MockEmployee>>} qualify and
+ * {@code Response<Boolean>} does not.
+ */
+public class MockEmployeeHttpMessageConverter extends AbstractGenericHttpMessageConverter<Response<?>> {
+
+    private final WireFormat format;
+
+    public MockEmployeeHttpMessageConverter(WireFormat format) {
+        super(format.getMediaTypes());
+        this.format = format;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Response.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return type != null && carriesEmployees(ResolvableType.forType(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Response<?> response, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        final var out = outputMessage.getBody();
+        try (final var generator = MockEmployeeJsonCodec.createGenerator(format.getFactory(), out)) {
+            MockEmployeeJsonCodec.writeResponse(generator, response);
+        }
+    }
+
+    @Override
+    public Response<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Request bodies are read by the Jackson converter");
+    }
+
+    @Override
+    protected Response<?> readInternal(Class<? extends Response<?>> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Request bodies are read by the Jackson converter");
+    }
+
+    private static boolean carriesEmployees(ResolvableType type) {
+        if (type.toClass() != Response.class) {
+            return false;
+        }
+        final var data = type.getGeneric(0);
+        return data.toClass() == MockEmployee.class
+                || (Collection.class.isAssignableFrom(data.toClass())
+                        && data.getGeneric(0).toClass() == MockEmployee.class);
+    }
+}
@@ -0,0 +1,268 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Writes {@link MockEmployee} JSON straight to a {@link JsonGenerator}, without databind's per-value serializer lookup
+ * and property introspection. Keys are pre-encoded once and ids are formatted into one buffer per call, so the only
+ * allocation per employee is inside the generator's own recycled buffers.
+ * <p>
+ * The JSON output is byte for byte what the application's {@code ObjectMapper} writes for the same values: the fields
+ * of {@link MockEmployee} in declaration order with {@code null}s kept, and {@link Response} without its {@code null}s.
+ * Handed a generator from {@link #SMILE_FACTORY}, it writes the same document as Smile, Jackson's binary JSON.
+ * <p>
+ * A field mask of the {@code *_FIELD} bits cuts employees down to the properties a query asked for, still in
+ * declaration order, as retaining them in a databind tree would but without building one per employee.
+ */
+public final class MockEmployeeJsonCodec {
+
+    /*
+     * No separator between root-level values, which newline-delimited output supplies itself.
+     */
+    public static final JsonFactory FACTORY =
+            new JsonFactoryBuilder().rootValueSeparator((String) null).build();
+
+    /*
+     * Smile already refers back to repeated keys; titles repeat across a roster too, so short values are shared too.
+     */
+    public static final JsonFactory SMILE_FACTORY = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+
+    public static final int ID_FIELD = 1;
+    public static final int NAME_FIELD = 1 << 1;
+    public static final int SALARY_FIELD = 1 << 2;
+    public static final int AGE_FIELD = 1 << 3;
+    public static final int TITLE_FIELD = 1 << 4;
+    public static final int EMAIL_FIELD = 1 << 5;
+    public static final int ALL_FIELDS = (1 << 6) - 1;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("employee_name");
+    private static final SerializedString SALARY = new SerializedString("employee_salary");
+    private static final SerializedString AGE = new SerializedString("employee_age");
+    private static final SerializedString TITLE = new SerializedString("employee_title");
+    private static final SerializedString EMAIL = new SerializedString("employee_email");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString EMPLOYEES = new SerializedString("employees");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private MockEmployeeJsonCodec() {}
+
+    public static byte[] toJsonBytes(@NonNull Response<?> response) {
+        return toBytes(FACTORY, response);
+    }
+
+    /**
+     * Serializes a response into a byte array built on the factory's recycled buffer, as
+     * {@code ObjectMapper#writeValueAsBytes} does.
+     */
+    public static byte[] toBytes(@NonNull JsonFactory factory, @NonNull Response<?> response) {
+        return toBytes(factory, generator -> writeResponse(generator, response));
+    }
+
+    /**
+     * Serializes one page of a roster query as JSON: {@code {"data":{"employees":[...],"nextCursor":"..."},"status":
+     * "..."}}, each employee cut down to {@code fields} and the cursor left out on the last page.
+     */
+    public static byte[] toPageBytes(@NonNull Collection<MockEmployee> employees, String nextCursor, int fields) {
+        return toBytes(FACTORY, generator -> {
+            generator.writeStartObject();
+            generator.writeFieldName(DATA);
+            generator.writeStartObject();
+            generator.writeFieldName(EMPLOYEES);
+            generator.writeStartArray(employees, employees.size());
+            final var uuid = new char[UUID_LENGTH];
+            for (final var employee : employees) {
+                writeEmployee(generator, employee, fields, uuid);
+            }
+            generator.writeEndArray();
+            if (nextCursor != null) {
+                generator.writeFieldName(NEXT_CURSOR);
+                generator.writeString(nextCursor);
+            }
+            generator.writeEndObject();
+            generator.writeFieldName(STATUS);
+            generator.writeString(Response.Status.HANDLED.getValue());
+            generator.writeEndObject();
+        });
+    }
+
+    private static byte[] toBytes(JsonFactory factory, Writer writer) {
+        final var buffer = new ByteArrayBuilder(factory._getBufferRecycler());
+        try (final var generator = factory.createGenerator(buffer)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize employees", e);
+        }
+        final byte[] json = buffer.toByteArray();
+        buffer.release();
+        return json;
+    }
+
+    /**
+     * Writes a response whose {@code data} is absent, one employee or a collection of employees.
+     */
+    public static void writeResponse(@NonNull JsonGenerator generator, @NonNull Response<?> response)
+            throws IOException {
+        final var uuid = new char[UUID_LENGTH];
+        generator.writeStartObject();
+        final var data = response.data();
+        if (data instanceof MockEmployee employee) {
+            generator.writeFieldName(DATA);
+            writeEmployee(generator, employee, uuid);
+        } else if (data instanceof Collection<?> employees) {
+            generator.writeFieldName(DATA);
+            generator.writeStartArray(employees, employees.size());
+            for (final var employee : employees) {
+                writeEmployee(generator, (MockEmployee) employee, uuid);
+            }
+            generator.writeEndArray();
+        } else if (data != null) {
+            throw new IllegalArgumentException("Cannot write " + data.getClass().getName());
+        }
+        if (response.status() != null) {
+            generator.writeFieldName(STATUS);
+            generator.writeString(response.status().getValue());
+        }
+        if (response.error() != null) {
+            generator.writeFieldName(ERROR);
+            generator.writeString(response.error());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes each employee as one line of newline-delimited JSON. The generator must not flush after every value for
+     * this to stay cheap; a fresh one from {@link #FACTORY} does not.
+     */
+    public static void writeLines(@NonNull JsonGenerator generator, @NonNull Iterable<MockEmployee> employees)
+            throws IOException {
+        final var uuid = new char[UUID_LENGTH];
+        for (final var employee : employees) {
+            writeEmployee(generator, employee, uuid);
+            generator.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Opens a JSON generator on {@code out} that leaves it open when closed.
+     */
+    public static JsonGenerator createGenerator(@NonNull OutputStream out) throws IOException {
+        return createGenerator(FACTORY, out);
+    }
+
+    public static JsonGenerator createGenerator(@NonNull JsonFactory factory, @NonNull OutputStream out)
+            throws IOException {
+        return factory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes the properties of one employee selected by {@code fields}, a mask of the {@code *_FIELD} bits.
+     */
+    public static void writeEmployee(@NonNull JsonGenerator generator, @NonNull MockEmployee employee, int fields)
+            throws IOException {
+        writeEmployee(generator, employee, fields, new char[UUID_LENGTH]);
+    }
+
+    private static void writeEmployee(JsonGenerator generator, MockEmployee employee, char[] uuid)
+            throws IOException {
+        writeEmployee(generator, employee, ALL_FIELDS, uuid);
+    }
+
+    private static void writeEmployee(JsonGenerator generator, MockEmployee employee, int fields, char[] uuid)
+            throws IOException {
+        generator.writeStartObject(employee);
+        if ((fields & ID_FIELD) != 0) {
+            generator.writeFieldName(ID);
+            if (employee.getId() == null) {
+                generator.writeNull();
+            } else {
+                formatUuid(employee.getId(), uuid);
+                generator.writeString(uuid, 0, UUID_LENGTH);
+            }
+        }
+        if ((fields & NAME_FIELD) != 0) {
+            writeString(generator, NAME, employee.getName());
+        }
+        if ((fields & SALARY_FIELD) != 0) {
+            writeNumber(generator, SALARY, employee.getSalary());
+        }
+        if ((fields & AGE_FIELD) != 0) {
+            writeNumber(generator, AGE, employee.getAge());
+        }
+        if ((fields & TITLE_FIELD) != 0) {
+            writeString(generator, TITLE, employee.getTitle());
+        }
+        if ((fields & EMAIL_FIELD) != 0) {
+            writeString(generator, EMAIL, employee.getEmail());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString key, String value) throws IOException {
+        generator.writeFieldName(key);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString key, Integer value) throws IOException {
+        generator.writeFieldName(key);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    /*
+     * Same text as UUID#toString, written into a reused buffer instead of a new string.
+     */
+    private static void formatUuid(UUID id, char[] out) {
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        hex(msb >>> 32, 8, out, 0);
+        out[8] = '-';
+        hex(msb >>> 16, 4, out, 9);
+        out[13] = '-';
+        hex(msb, 4, out, 14);
+        out[18] = '-';
+        hex(lsb >>> 48, 4, out, 19);
+        out[23] = '-';
+        hex(lsb, 12, out, 24);
+    }
+
+    private static void hex(long value, int digits, char[] out, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
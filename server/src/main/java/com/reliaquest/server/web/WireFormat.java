@@ -0,0 +1,62 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Body formats for employee responses. JSON is what every client gets unless it names Smile in {@code Accept}; the api
+ * does when {@code employee.client.wire-format} is {@code smile}, trading readable bodies for smaller ones that decode
+ * faster.
+ */
+@Getter
+public enum WireFormat {
+    JSON(MockEmployeeJsonCodec.FACTORY, MediaType.APPLICATION_JSON, new MediaType("application", "*+json")),
+    SMILE(MockEmployeeJsonCodec.SMILE_FACTORY, new MediaType("application", "x-jackson-smile"));
+
+    private final JsonFactory factory;
+    private final MediaType mediaType;
+    private final MediaType[] mediaTypes;
+
+    WireFormat(JsonFactory factory, MediaType... mediaTypes) {
+        this.factory = factory;
+        this.mediaType = mediaTypes[0];
+        this.mediaTypes = mediaTypes;
+    }
+
+    /**
+     * Picks the format of the highest quality type in {@code accept} that names one; ties go to the type listed first,
+     * and wildcards count as JSON.
+     *
+     * @param accept the request's {@code Accept} header, may be {@code null}
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null) {
+            return JSON;
+        }
+        final List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        var best = JSON;
+        var bestQuality = -1.0;
+        for (final var type : accepted) {
+            final var quality = type.getQualityValue();
+            if (quality == 0 || quality <= bestQuality) {
+                continue;
+            }
+            if (SMILE.mediaType.equalsTypeAndSubtype(type)) {
+                best = SMILE;
+                bestQuality = quality;
+            } else if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                best = JSON;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mock Employee Generator Unit Tests")
+class MockEmployeeGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate the same roster for the same seed")
+    void generate_Reproducible() {
+        // Given
+        int count = MockEmployeeGenerator.CHUNK_SIZE + 1;
+
+        // When
+        List<MockEmployee> first = new MockEmployeeGenerator(42, Locale.ENGLISH).generate(count);
+        List<MockEmployee> second = new MockEmployeeGenerator(42, Locale.ENGLISH).generate(count);
+        List<MockEmployee> other = new MockEmployeeGenerator(43, Locale.ENGLISH).generate(count);
+
+        // Then
+        assertEquals(count, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals(count, new HashSet<>(first.stream().map(MockEmployee::getId).toList()).size());
+        assertEquals(4, first.get(0).getId().version());
+        assertEquals(2, first.get(0).getId().variant());
+    }
+
+    @Test
+    @DisplayName("Should fill every field within the configured ranges")
+    void generate_Fields() {
+        // When
+        List<MockEmployee> employees = new MockEmployeeGenerator(7, Locale.ENGLISH).generate(100);
+
+        // Then
+        assertEquals(100, employees.size());
+        for (MockEmployee employee : employees) {
+            assertNotNull(employee.getName());
+            assertNotNull(employee.getTitle());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+        assertTrue(new MockEmployeeGenerator(7, Locale.ENGLISH).generate(0).isEmpty());
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mock Employee Controller Advice Unit Tests")
+class MockEmployeeControllerAdviceTest {
+
+    private final MockEmployeeControllerAdvice advice = new MockEmployeeControllerAdvice();
+
+    @Test
+    @DisplayName("Should answer a body that fails validation with 400 and what failed")
+    void handleInvalidBody() throws Exception {
+        // Given
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(new CreateMockEmployeeInput(), "input");
+        errors.rejectValue("name", "Size", "size must be between 0 and 255");
+        MethodParameter parameter = new MethodParameter(
+                MockEmployeeController.class.getMethod("createEmployee", CreateMockEmployeeInput.class), 0);
+
+        // When
+        ResponseEntity<?> response = advice.handleInvalidBody(new MethodArgumentNotValidException(parameter, errors));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Response.error("name size must be between 0 and 255"), response.getBody());
+    }
+}
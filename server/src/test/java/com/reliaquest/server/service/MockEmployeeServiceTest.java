@@ -0,0 +1,170 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.QueryMockEmployeeInput;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.EmployeeStore;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mock Employee Service Unit Tests")
+class MockEmployeeServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should serve the roster JSON from cache until the store changes")
+    void getMockEmployeesJson_CachedPerVersion() throws Exception {
+        // Given
+        MockEmployee john = new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Developer", "john@company.com");
+        EmployeeStore store = EmployeeStore.of(List.of(john));
+        MockEmployeeService service = new MockEmployeeService(new Faker(Locale.getDefault()), store);
+
+        // When
+        MockEmployeeService.RosterJson first = service.getMockEmployeesJson();
+        MockEmployeeService.RosterJson second = service.getMockEmployeesJson();
+        store.add(new MockEmployee(UUID.randomUUID(), "Jane Smith", 60000, 25, "Designer", "jane@company.com"));
+        MockEmployeeService.RosterJson afterAdd = service.getMockEmployeesJson();
+
+        // Then
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(Response.handledWith(List.of(john))), first.json());
+        assertArrayEquals(objectMapper.writeValueAsBytes(Response.handledWith(store.findAll())), afterAdd.json());
+        assertTrue(new String(afterAdd.json(), StandardCharsets.UTF_8).contains("\"employee_name\":\"Jane Smith\""));
+        assertTrue(first.etag().startsWith("W/\""));
+        assertNotEquals(first.etag(), afterAdd.etag());
+    }
+
+    @Test
+    @DisplayName("Should report the change feed from the version in the roster cursor")
+    void getChangesSince_FromRosterCursor() {
+        // Given
+        MockEmployee john = new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Developer", "john@company.com");
+        EmployeeStore store = EmployeeStore.of(List.of(john));
+        MockEmployeeService service = new MockEmployeeService(new Faker(Locale.getDefault()), store);
+        String[] cursor = service.getMockEmployeesJson().cursor().split(":");
+
+        // When
+        MockEmployeeService.ChangeFeed unchanged = service.getChangesSince(Long.parseLong(cursor[1])).orElseThrow();
+        store.removeFirstByName("John Doe");
+        MockEmployeeService.ChangeFeed changed = service.getChangesSince(Long.parseLong(cursor[1])).orElseThrow();
+
+        // Then
+        assertEquals(cursor[0], unchanged.epoch());
+        assertEquals(Long.parseLong(cursor[1]), unchanged.latest());
+        assertTrue(unchanged.changes().isEmpty());
+        assertEquals(store.version(), changed.latest());
+        assertEquals(1, changed.changes().size());
+        assertSame(john, changed.changes().get(0).employee());
+    }
+
+    @Test
+    @DisplayName("Should apply batch creates and deletes with a result per item")
+    void createAllAndDeleteAll() {
+        // Given
+        EmployeeStore store = EmployeeStore.of(List.of());
+        MockEmployeeService service = new MockEmployeeService(new Faker(Locale.getDefault()), store);
+        CreateMockEmployeeInput john = createInput("John Doe");
+        CreateMockEmployeeInput jane = createInput("Jane Smith");
+        DeleteMockEmployeeInput deleteJohn = new DeleteMockEmployeeInput();
+        deleteJohn.setName("John Doe");
+
+        // When
+        List<MockEmployee> created = service.createAll(List.of(john, jane));
+        List<Boolean> deleted = service.deleteAll(List.of(deleteJohn, deleteJohn));
+
+        // Then
+        assertEquals(List.of("John Doe", "Jane Smith"), created.stream().map(MockEmployee::getName).toList());
+        assertTrue(created.stream().allMatch(employee -> employee.getId() != null && employee.getEmail() != null));
+        assertEquals(List.of(true, false), deleted);
+        assertEquals(List.of(created.get(1)), store.findAll());
+    }
+
+    @Test
+    @DisplayName("Should delete exactly the employee with the id among namesakes")
+    void deleteById() {
+        // Given
+        MockEmployee first = new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Developer", "j1@company.com");
+        MockEmployee second = new MockEmployee(UUID.randomUUID(), "John Doe", 60000, 40, "Manager", "j2@company.com");
+        EmployeeStore store = EmployeeStore.of(List.of(first, second));
+        MockEmployeeService service = new MockEmployeeService(new Faker(Locale.getDefault()), store);
+
+        // When
+        Optional<MockEmployee> deleted = service.deleteById(second.getId());
+        Optional<MockEmployee> again = service.deleteById(second.getId());
+
+        // Then
+        assertEquals(second, deleted.orElseThrow());
+        assertTrue(again.isEmpty());
+        assertEquals(List.of(first), store.findAll());
+    }
+
+    @Test
+    @DisplayName("Should answer a query with the requested fields of one page of matches")
+    void queryMockEmployeesJson_Projected() throws Exception {
+        // Given
+        MockEmployee john = new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Developer", "john@company.com");
+        MockEmployee jane = new MockEmployee(UUID.randomUUID(), "Jane Smith", 60000, 25, "Designer", "jane@co.com");
+        MockEmployee bob = new MockEmployee(UUID.randomUUID(), "Bob Johnson", 70000, 40, "Manager", "bob@co.com");
+        MockEmployeeService service =
+                new MockEmployeeService(new Faker(Locale.getDefault()), EmployeeStore.of(List.of(john, jane, bob)));
+        QueryMockEmployeeInput query = new QueryMockEmployeeInput();
+        query.setSort("-salary");
+        query.setMaxSalary(65000);
+        query.setLimit(1);
+        query.setFields(List.of("name", "salary"));
+
+        // When
+        JsonNode page = objectMapper.readTree(service.queryMockEmployeesJson(query));
+
+        // Then
+        assertEquals(
+                objectMapper.readTree("[{\"employee_name\":\"Jane Smith\",\"employee_salary\":60000}]"),
+                page.path("data").path("employees"));
+        assertTrue(page.path("data").hasNonNull("nextCursor"));
+        query.setSort("name");
+        assertThrows(IllegalArgumentException.class, () -> service.queryMockEmployeesJson(query));
+    }
+
+    @Test
+    @DisplayName("Should export the roster as one JSON document per line")
+    void writeMockEmployeesNdjson() throws Exception {
+        // Given
+        MockEmployee john = new MockEmployee(UUID.randomUUID(), "John Doe", 50000, 30, "Developer", "john@company.com");
+        MockEmployee jane = new MockEmployee(UUID.randomUUID(), "Jane Smith", 60000, 25, "Designer", "jane@co.com");
+        MockEmployeeService service =
+                new MockEmployeeService(new Faker(Locale.getDefault()), EmployeeStore.of(List.of(john, jane)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        service.writeMockEmployeesNdjson(out);
+
+        // Then
+        assertEquals(
+                objectMapper.writeValueAsString(john) + "\n" + objectMapper.writeValueAsString(jane) + "\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Developer");
+        return input;
+    }
+}
@@ -0,0 +1,457 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Employee Store Unit Tests")
+class EmployeeStoreTest {
+
+    @Test
+    @DisplayName("Should find employees by id")
+    void findById() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        EmployeeStore store = EmployeeStore.of(List.of(john, employee("Jane Smith")));
+
+        // When & Then
+        assertSame(john, store.findById(john.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep insertion order in findAll")
+    void findAll_InsertionOrder() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        MockEmployee bob = employee("Bob Johnson");
+        EmployeeStore store = EmployeeStore.of(List.of(john, jane));
+
+        // When
+        store.add(bob);
+
+        // Then
+        assertEquals(List.of(john, jane, bob), store.findAll());
+    }
+
+    @Test
+    @DisplayName("Should share one immutable snapshot per version")
+    void snapshot_PerVersion() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        EmployeeStore store = EmployeeStore.of(List.of(john));
+        EmployeeStore.Snapshot first = store.snapshot();
+
+        // When
+        EmployeeStore.Snapshot unchanged = store.snapshot();
+        store.add(employee("Jane Smith"));
+        EmployeeStore.Snapshot afterAdd = store.snapshot();
+        store.removeFirstByName("Nobody");
+        EmployeeStore.Snapshot afterMiss = store.snapshot();
+
+        // Then
+        assertSame(first, unchanged);
+        assertEquals(List.of(john), first.employees());
+        assertEquals(2, afterAdd.employees().size());
+        assertTrue(afterAdd.version() > first.version());
+        assertSame(afterAdd, afterMiss);
+        assertThrows(UnsupportedOperationException.class, () -> afterAdd.employees().clear());
+    }
+
+    @Test
+    @DisplayName("Should replay changes after a version until they fall out of the retained window")
+    void changesSince() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        EmployeeStore store = EmployeeStore.of(List.of(john), 2);
+        long version = store.version();
+
+        // When
+        store.add(jane);
+        store.removeFirstByName("john doe");
+        List<ChangeLog.Change> changes = store.changesSince(version).orElseThrow();
+
+        // Then
+        assertEquals(2, changes.size());
+        assertEquals(ChangeLog.Change.Type.CREATED, changes.get(0).type());
+        assertSame(jane, changes.get(0).employee());
+        assertEquals(ChangeLog.Change.Type.DELETED, changes.get(1).type());
+        assertSame(john, changes.get(1).employee());
+        assertEquals(store.version(), changes.get(1).sequence());
+        assertEquals(List.of(), store.changesSince(store.version()).orElseThrow());
+        assertTrue(store.changesSince(version - 1).isEmpty());
+        assertTrue(store.changesSince(store.version() + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should remove the earliest employee whose name matches ignoring case")
+    void removeFirstByName() {
+        // Given
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("JOHN DOE");
+        MockEmployee jane = employee("Jane Smith");
+        EmployeeStore store = EmployeeStore.of(List.of(first, jane, second));
+
+        // When
+        MockEmployee removed = store.removeFirstByName("john doe").orElseThrow();
+
+        // Then
+        assertSame(first, removed);
+        assertEquals(List.of(jane, second), store.findAll());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertSame(second, store.removeFirstByName("John Doe").orElseThrow());
+        assertTrue(store.removeFirstByName("John Doe").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should remove the exact employee by id among namesakes and journal the delete")
+    void removeById() {
+        // Given
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("John Doe");
+        EmployeeStore store = EmployeeStore.of(List.of(first, second));
+        List<ChangeLog.Change> journaled = new ArrayList<>();
+        store.setJournal(journaled::add);
+
+        // When
+        MockEmployee removed = store.removeById(second.getId()).orElseThrow();
+
+        // Then
+        assertSame(second, removed);
+        assertEquals(List.of(first), store.findAll());
+        assertTrue(store.removeById(second.getId()).isEmpty());
+        assertEquals(1, journaled.size());
+        assertEquals(ChangeLog.Change.Type.DELETED, journaled.get(0).type());
+        assertSame(second, journaled.get(0).employee());
+    }
+
+    @Test
+    @DisplayName("Should add a batch in order and journal it as one batch")
+    void addAll() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        EmployeeStore store = EmployeeStore.of(List.of(john));
+        List<List<ChangeLog.Change>> batches = new ArrayList<>();
+        store.setJournal(new EmployeeJournal() {
+            @Override
+            public void append(ChangeLog.Change change) {
+                batches.add(List.of(change));
+            }
+
+            @Override
+            public void appendAll(List<ChangeLog.Change> changes) {
+                batches.add(changes);
+            }
+        });
+        long before = store.version();
+
+        // When
+        store.addAll(List.of(jane, john));
+
+        // Then
+        assertEquals(List.of(john, jane, john), store.findAll());
+        assertEquals(before + 2, store.version());
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertSame(jane, batches.get(0).get(0).employee());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch with a string too long to persist before adding any of it")
+    void addAll_TooLongToPersist() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee verbose = employee("x".repeat(0x10000));
+        for (EmployeeStore.Backend backend : EmployeeStore.Backend.values()) {
+            EmployeeStore store = backend.create(List.of(), EmployeeStore.DEFAULT_RETAINED_CHANGES);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(john, verbose)), backend.name());
+            assertThrows(IllegalArgumentException.class, () -> store.add(verbose), backend.name());
+            assertEquals(List.of(), store.findAll(), backend.name());
+            assertEquals(0L, store.version(), backend.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove one earliest match per listed name and report misses")
+    void removeFirstByNames() {
+        // Given
+        MockEmployee first = employee("John Doe");
+        MockEmployee second = employee("john doe");
+        MockEmployee jane = employee("Jane Smith");
+        EmployeeStore store = EmployeeStore.of(List.of(first, jane, second));
+
+        // When
+        List<Optional<MockEmployee>> removed =
+                store.removeFirstByNames(List.of("JOHN DOE", "Nobody", "John Doe", "John Doe"));
+
+        // Then
+        assertEquals(List.of(Optional.of(first), Optional.empty(), Optional.of(second), Optional.empty()), removed);
+        assertEquals(List.of(jane), store.findAll());
+        assertEquals(2, store.changesSince(3).orElseThrow().size());
+    }
+
+    @Test
+    @DisplayName("Should remove exactly the listed ids, never a namesake, and report misses")
+    void removeByIds() {
+        for (EmployeeStore.Backend backend : EmployeeStore.Backend.values()) {
+            // Given
+            MockEmployee first = employee("John Doe");
+            MockEmployee second = employee("John Doe");
+            MockEmployee jane = employee("Jane Smith");
+            EmployeeStore store = backend.create(List.of(first, jane, second), 16);
+
+            // When
+            List<Optional<MockEmployee>> removed =
+                    store.removeByIds(List.of(second.getId(), UUID.randomUUID(), second.getId(), jane.getId()));
+
+            // Then
+            assertEquals(
+                    List.of(Optional.of(second), Optional.empty(), Optional.empty(), Optional.of(jane)),
+                    removed,
+                    backend.name());
+            assertEquals(List.of(first), store.findAll(), backend.name());
+            assertEquals(2, store.changesSince(3).orElseThrow().size(), backend.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove an employee without a name by id")
+    void removeById_Unnamed() {
+        for (EmployeeStore.Backend backend : EmployeeStore.Backend.values()) {
+            // Given
+            MockEmployee unnamed = employee(null);
+            MockEmployee john = employee("John Doe");
+            EmployeeStore store = backend.create(List.of(unnamed, john), 16);
+
+            // When
+            Optional<MockEmployee> removed = store.removeById(unnamed.getId());
+
+            // Then
+            assertEquals(Optional.of(unnamed), removed, backend.name());
+            assertTrue(store.removeById(unnamed.getId()).isEmpty(), backend.name());
+            assertTrue(store.findById(unnamed.getId()).isEmpty(), backend.name());
+            assertEquals(List.of(john), store.findAll(), backend.name());
+            assertEquals(1, store.size(), backend.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should page filtered matches in roster order without repeating or skipping across writes")
+    void query_RosterPages() {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        MockEmployee johnny = employee("Johnny Walker");
+        MockEmployee bob = employee("Bob Johnson");
+        EmployeeStore store = EmployeeStore.of(List.of(john, jane, johnny, bob));
+        EmployeeQuery query = new EmployeeQuery("JOHN", null, null, null, null, EmployeeQuery.Order.ROSTER, null, 2);
+
+        // When
+        EmployeeStore.Page first = store.query(query);
+        store.removeById(johnny.getId());
+        MockEmployee late = store.add(employee("Elton John"));
+        EmployeeStore.Page second = store.query(query.withCursor(first.nextCursor()));
+
+        // Then
+        assertEquals(List.of(john, johnny), first.employees());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(bob, late), second.employees());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should order by salary from the index, ties in roster order, within the salary bounds")
+    void query_SalaryOrder() {
+        // Given
+        MockEmployee low = employee("Low", 40000);
+        MockEmployee firstHigh = employee("First High", 90000);
+        MockEmployee middle = employee("Middle", 60000);
+        MockEmployee secondHigh = employee("Second High", 90000);
+        MockEmployee unpaid = employee("Unpaid", null);
+        EmployeeStore store = EmployeeStore.of(List.of(low, firstHigh, middle, secondHigh, unpaid));
+
+        // When
+        EmployeeStore.Page top = store.query(
+                new EmployeeQuery(null, null, null, null, null, EmployeeQuery.Order.SALARY_DESCENDING, null, 2));
+        EmployeeStore.Page rest = store.query(
+                new EmployeeQuery(null, null, null, null, null, EmployeeQuery.Order.SALARY_DESCENDING, null, 2)
+                        .withCursor(top.nextCursor()));
+        EmployeeStore.Page bounded = store.query(
+                new EmployeeQuery(null, 50000, 90000, null, null, EmployeeQuery.Order.SALARY_ASCENDING, null, 10));
+
+        // Then
+        assertEquals(List.of(firstHigh, secondHigh), top.employees());
+        assertEquals(List.of(middle, low), rest.employees());
+        assertNull(rest.nextCursor());
+        assertEquals(List.of(middle, secondHigh, firstHigh), bounded.employees());
+        assertEquals(4, store.query(EmployeeQuery.all(EmployeeQuery.Order.SALARY_ASCENDING)).employees().size());
+        assertTrue(store.query(EmployeeQuery.all(EmployeeQuery.Order.ROSTER)).employees().contains(unpaid));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor from another order")
+    void query_InvalidCursor() {
+        // Given
+        EmployeeStore store = EmployeeStore.of(List.of(employee("John Doe"), employee("Jane Smith")));
+        String salaryCursor = store.query(
+                        new EmployeeQuery(null, null, null, null, null, EmployeeQuery.Order.SALARY_DESCENDING, null, 1))
+                .nextCursor();
+
+        // When & Then
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> store.query(EmployeeQuery.all(EmployeeQuery.Order.ROSTER).withCursor(salaryCursor)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> store.query(EmployeeQuery.all(EmployeeQuery.Order.SALARY_ASCENDING).withCursor("abc")));
+    }
+
+    @Test
+    @DisplayName("Should match name parts through the trigram index exactly as a scan would, after deletes")
+    void query_NameContains() {
+        // Given
+        MockEmployee john = employee("John Doe", 50000);
+        MockEmployee johnny = employee("JOHNNY Walker", 70000);
+        MockEmployee bob = employee("Bob Johnson", 60000);
+        MockEmployee office = employee("\u0130stanbul Office", 40000);
+        for (EmployeeStore.Backend backend : EmployeeStore.Backend.values()) {
+            EmployeeStore store = backend.create(List.of(john, johnny, bob, office), 16);
+
+            // When
+            store.removeById(johnny.getId());
+
+            // Then
+            assertEquals(List.of(john, bob), named(store, EmployeeQuery.Order.ROSTER, "ohn"), backend.name());
+            assertEquals(
+                    List.of(bob, john), named(store, EmployeeQuery.Order.SALARY_DESCENDING, "OHN"), backend.name());
+            assertEquals(List.of(john, bob), named(store, EmployeeQuery.Order.ROSTER, "Jo"), backend.name());
+            assertEquals(List.of(office), named(store, EmployeeQuery.Order.ROSTER, "ISTANBUL"), backend.name());
+            assertEquals(List.of(), named(store, EmployeeQuery.Order.ROSTER, "walker"), backend.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fold case exactly like equalsIgnoreCase")
+    void foldCase() {
+        // Given
+        String[] names = {"John Doe", "JOHN DOE", "\u0130stanbul", "istanbul", "ISTANBUL", "Stra\u00dfe", "STRASSE"};
+
+        // When & Then
+        for (String left : names) {
+            for (String right : names) {
+                assertEquals(
+                        left.equalsIgnoreCase(right),
+                        HeapEmployeeStore.foldCase(left).equals(HeapEmployeeStore.foldCase(right)),
+                        left + " vs " + right);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay consistent under concurrent adds, deletes and reads")
+    void concurrentStress() throws Exception {
+        // Given
+        int threads = 8;
+        int namesPerThread = 2000;
+        EmployeeStore store = EmployeeStore.of(List.of());
+        Set<UUID> deletedIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger deletes = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+
+        try {
+            // When
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                // Writers add two employees per shared name, readers race them deleting those names.
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < namesPerThread; i++) {
+                        String name = "Employee " + (thread * namesPerThread + i);
+                        store.add(employee(name));
+                        store.add(employee(name.toUpperCase()));
+                    }
+                    return null;
+                }));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < namesPerThread * 2; i++) {
+                        int target = (thread + 1) % threads * namesPerThread + i % namesPerThread;
+                        store.removeFirstByName("employee " + target).ifPresent(removed -> {
+                            assertTrue(deletedIds.add(removed.getId()), "employee deleted twice");
+                            deletes.incrementAndGet();
+                        });
+                        if (i % 100 == 0) {
+                            store.findAll().forEach(employee -> assertNotNull(employee.getId()));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+
+            // Then
+            List<MockEmployee> remaining = store.findAll();
+            assertEquals(threads * namesPerThread * 2 - deletes.get(), remaining.size());
+            assertEquals(remaining.size(), store.size());
+            Set<UUID> remainingIds = new HashSet<>();
+            for (MockEmployee employee : remaining) {
+                assertTrue(remainingIds.add(employee.getId()));
+                assertFalse(deletedIds.contains(employee.getId()));
+                assertSame(employee, store.findById(employee.getId()).orElseThrow());
+            }
+            for (UUID deletedId : deletedIds) {
+                assertTrue(store.findById(deletedId).isEmpty());
+            }
+            int drained = 0;
+            for (int n = 0; n < threads * namesPerThread; n++) {
+                while (store.removeFirstByName("EMPLOYEE " + n).isPresent()) {
+                    drained++;
+                }
+            }
+            assertEquals(remaining.size(), drained);
+            assertEquals(0, store.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<MockEmployee> named(EmployeeStore store, EmployeeQuery.Order order, String nameContains) {
+        EmployeeQuery query =
+                new EmployeeQuery(nameContains, null, null, null, null, order, null, EmployeeQuery.UNLIMITED);
+        return store.query(query).employees();
+    }
+
+    private static MockEmployee employee(String name) {
+        return employee(name, 50000);
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Developer", "employee@company.com");
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Off-Heap Employee Store Unit Tests")
+class OffHeapEmployeeStoreTest {
+
+    @Test
+    @DisplayName("Should read back every field, including missing ones")
+    void add_RoundTrip() {
+        // Given
+        MockEmployee john = employee("John Doe", 50000);
+        MockEmployee sparse = new MockEmployee(null, null, null, null, null, null);
+        MockEmployee accented = new MockEmployee(UUID.randomUUID(), "Zoë Ångström", 70000, null, "Größenwahn", null);
+
+        // When
+        OffHeapEmployeeStore store = OffHeapEmployeeStore.of(List.of(john, sparse, accented), 16);
+
+        // Then
+        assertEquals(List.of(john, sparse, accented), store.findAll());
+        assertEquals(john, store.findById(john.getId()).orElseThrow());
+        assertEquals(3, store.size());
+        assertEquals(3, store.version());
+    }
+
+    @Test
+    @DisplayName("Should delete the earliest match by name ignoring case, and any employee by id")
+    void remove() {
+        // Given
+        MockEmployee first = employee("John Doe", 50000);
+        MockEmployee jane = employee("Jane Smith", 80000);
+        MockEmployee second = employee("JOHN DOE", 60000);
+        MockEmployee nameless = new MockEmployee(UUID.randomUUID(), null, 10000, null, null, null);
+        OffHeapEmployeeStore store = OffHeapEmployeeStore.of(List.of(first, jane, second, nameless), 16);
+
+        // When
+        Optional<MockEmployee> removed = store.removeFirstByName("john doe");
+        List<Optional<MockEmployee>> batch = store.removeFirstByNames(List.of("John Doe", "John Doe"));
+
+        // Then
+        assertEquals(first, removed.orElseThrow());
+        assertEquals(List.of(Optional.of(second), Optional.empty()), batch);
+        assertEquals(nameless, store.removeById(nameless.getId()).orElseThrow());
+        assertEquals(jane, store.removeById(jane.getId()).orElseThrow());
+        assertEquals(List.of(), store.findAll());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(8, store.version());
+    }
+
+    @Test
+    @DisplayName("Should page like the heap store in every order")
+    void query_MatchesHeapStore() {
+        // Given
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            employees.add(employee("Employee " + i, i % 7 == 0 ? null : (i % 5) * 10000));
+        }
+        EmployeeStore heap = EmployeeStore.of(employees);
+        OffHeapEmployeeStore offHeap = OffHeapEmployeeStore.of(employees, 16);
+
+        // When & Then
+        for (EmployeeQuery.Order order : EmployeeQuery.Order.values()) {
+            for (String nameContains : new String[] {null, "e 1", "EMPLOYEE 3", "oyee", "nobody"}) {
+                assertEquals(
+                        pages(heap, order, nameContains),
+                        pages(offHeap, order, nameContains),
+                        order + " " + nameContains);
+            }
+        }
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> offHeap.query(EmployeeQuery.all(EmployeeQuery.Order.SALARY_DESCENDING).withCursor("abc")));
+    }
+
+    @Test
+    @DisplayName("Should match the heap store through churn that reuses slots and compacts strings")
+    void churn_MatchesHeapStore() {
+        // Given
+        Random random = new Random(7);
+        EmployeeStore heap = EmployeeStore.of(List.of());
+        OffHeapEmployeeStore offHeap = new OffHeapEmployeeStore();
+        List<MockEmployee> live = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            if (live.isEmpty() || random.nextInt(5) < 3) {
+                MockEmployee hire = employee("Hire " + random.nextInt(300), random.nextInt(100) * 1000);
+                heap.add(hire);
+                offHeap.add(hire);
+                live.add(hire);
+            } else if (random.nextBoolean()) {
+                MockEmployee leaver = live.remove(random.nextInt(live.size()));
+                assertEquals(heap.removeById(leaver.getId()), offHeap.removeById(leaver.getId()));
+            } else {
+                String name = live.get(random.nextInt(live.size())).getName().toUpperCase();
+                Optional<MockEmployee> removed = heap.removeFirstByName(name);
+                assertEquals(removed, offHeap.removeFirstByName(name));
+                live.remove(removed.orElseThrow());
+            }
+        }
+
+        // Then
+        assertEquals(heap.findAll(), offHeap.findAll());
+        assertEquals(heap.size(), offHeap.size());
+        for (MockEmployee employee : live) {
+            assertEquals(employee, offHeap.findById(employee.getId()).orElseThrow());
+        }
+        assertEquals(
+                pages(heap, EmployeeQuery.Order.SALARY_DESCENDING, null),
+                pages(offHeap, EmployeeQuery.Order.SALARY_DESCENDING, null));
+        assertEquals(
+                pages(heap, EmployeeQuery.Order.ROSTER, "RE 2"), pages(offHeap, EmployeeQuery.Order.ROSTER, "RE 2"));
+    }
+
+    private static List<List<MockEmployee>> pages(EmployeeStore store, EmployeeQuery.Order order, String nameContains) {
+        List<List<MockEmployee>> pages = new ArrayList<>();
+        EmployeeQuery query = new EmployeeQuery(nameContains, null, null, null, null, order, null, 3);
+        EmployeeStore.Page page;
+        do {
+            page = store.query(query);
+            pages.add(page.employees());
+            query = query.withCursor(page.nextCursor());
+        } while (page.nextCursor() != null);
+        return pages;
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Developer", name + "@company.com");
+    }
+}
@@ -0,0 +1,221 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Store Persistence Unit Tests")
+class StorePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should generate and snapshot the roster on first load only")
+    void load_GeneratesOnce() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            persistence.load(16, () -> List.of(john, jane));
+        }
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, () -> fail("Roster should come from the snapshot"));
+        }
+
+        // Then
+        assertEquals(List.of(john, jane), restored.findAll());
+    }
+
+    @Test
+    @DisplayName("Should replay writes logged after the last snapshot when the server did not shut down cleanly")
+    void load_ReplaysLog() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        MockEmployee bob = employee("Bob Johnson");
+        StorePersistence crashed = new StorePersistence(directory);
+        EmployeeStore store = crashed.load(16, () -> List.of(john, jane));
+        store.add(bob);
+        store.removeById(john.getId());
+        byte[] snapshot = Files.readAllBytes(directory.resolve(StorePersistence.SNAPSHOT_FILE));
+        byte[] log = Files.readAllBytes(directory.resolve(StorePersistence.LOG_FILE));
+        crashed.close();
+        overwrite(directory.resolve(StorePersistence.SNAPSHOT_FILE), snapshot);
+        overwrite(directory.resolve(StorePersistence.LOG_FILE), log);
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, List::of);
+        }
+
+        // Then
+        assertEquals(List.of(jane, bob), restored.findAll());
+    }
+
+    @Test
+    @DisplayName("Should replay the delete of an employee without a name")
+    void load_ReplaysUnnamedDelete() throws Exception {
+        // Given
+        MockEmployee unnamed = employee(null);
+        MockEmployee jane = employee("Jane Smith");
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            persistence.load(16, () -> List.of(unnamed, jane));
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve(StorePersistence.LOG_FILE))) {
+            wal.append(new ChangeLog.Change(3, ChangeLog.Change.Type.DELETED, unnamed));
+        }
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, List::of);
+        }
+
+        // Then
+        assertEquals(List.of(jane), restored.findAll());
+    }
+
+    @Test
+    @DisplayName("Should not apply a logged write twice when the snapshot already holds it")
+    void load_IdempotentReplay() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            persistence.load(16, () -> List.of(john, jane));
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve(StorePersistence.LOG_FILE))) {
+            wal.append(new ChangeLog.Change(3, ChangeLog.Change.Type.CREATED, jane));
+            wal.append(new ChangeLog.Change(4, ChangeLog.Change.Type.DELETED, employee("Ghost")));
+        }
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, List::of);
+        }
+
+        // Then
+        assertEquals(List.of(john, jane), restored.findAll());
+    }
+
+    @Test
+    @DisplayName("Should replay logged writes in sequence order, whatever order they were committed in")
+    void load_ReplaysInSequenceOrder() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee bob = employee("Bob Johnson");
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            persistence.load(16, () -> List.of(john));
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve(StorePersistence.LOG_FILE))) {
+            wal.append(new ChangeLog.Change(3, ChangeLog.Change.Type.DELETED, bob));
+            wal.append(new ChangeLog.Change(2, ChangeLog.Change.Type.CREATED, bob));
+            wal.append(new ChangeLog.Change(1, ChangeLog.Change.Type.DELETED, john));
+        }
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, List::of);
+        }
+
+        // Then
+        assertEquals(List.of(john), restored.findAll());
+        assertEquals(3, restored.version());
+    }
+
+    @Test
+    @DisplayName("Should carry on numbering changes from the restored version")
+    void load_KeepsVersion() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            EmployeeStore store = persistence.load(16, () -> List.of(john, jane));
+            store.removeById(jane.getId());
+        }
+
+        // When
+        EmployeeStore restored;
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            restored = persistence.load(16, List::of);
+            restored.add(jane);
+        }
+
+        // Then
+        assertEquals(4, restored.version());
+        assertTrue(restored.changesSince(1).isEmpty());
+        assertEquals(1, restored.changesSince(3).orElseThrow().size());
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            assertEquals(List.of(john, jane), persistence.load(16, List::of).findAll());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse a corrupt snapshot")
+    void load_CorruptSnapshot() throws Exception {
+        // Given
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            persistence.load(16, () -> List.of(employee("John Doe")));
+        }
+        Path snapshot = directory.resolve(StorePersistence.SNAPSHOT_FILE);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7F;
+        overwrite(snapshot, bytes);
+
+        // When & Then
+        try (StorePersistence persistence = new StorePersistence(directory)) {
+            assertThrows(IOException.class, () -> persistence.load(16, List::of));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fold the log into the snapshot in the background once it passes the threshold")
+    void checkpoint_WhenLogIsLarge() throws Exception {
+        // Given
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        Path log = directory.resolve(StorePersistence.LOG_FILE);
+        try (StorePersistence persistence = new StorePersistence(directory, 1)) {
+            EmployeeStore store = persistence.load(16, () -> List.of(john));
+
+            // When
+            store.add(jane);
+
+            // Then
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (Files.size(log) > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, Files.size(log));
+            EmployeeStore.Snapshot snapshot = SnapshotFile.read(directory.resolve(StorePersistence.SNAPSHOT_FILE));
+            assertEquals(List.of(john, jane), snapshot.employees());
+            assertEquals(2, snapshot.version());
+        }
+    }
+
+    private static void overwrite(Path file, byte[] bytes) throws IOException {
+        Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50000, 30, "Developer", "employee@company.com");
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Write-Ahead Log Unit Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should replay appended changes in order with every field intact")
+    void replay() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.wal");
+        MockEmployee john =
+                new MockEmployee(UUID.randomUUID(), "J\u00f6hn Doe", 50000, 30, "Developer", "john@company.com");
+        MockEmployee sparse = new MockEmployee(UUID.randomUUID(), null, null, null, null, null);
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(new ChangeLog.Change(1, ChangeLog.Change.Type.CREATED, john));
+            wal.append(new ChangeLog.Change(2, ChangeLog.Change.Type.CREATED, sparse));
+            wal.append(new ChangeLog.Change(3, ChangeLog.Change.Type.DELETED, john));
+        }
+
+        // When
+        List<ChangeLog.Change> changes = new ArrayList<>();
+        long valid = WriteAheadLog.replay(file, changes::add);
+
+        // Then
+        assertEquals(Files.size(file), valid);
+        assertEquals(
+                List.of(
+                        new ChangeLog.Change(1, ChangeLog.Change.Type.CREATED, john),
+                        new ChangeLog.Change(2, ChangeLog.Change.Type.CREATED, sparse),
+                        new ChangeLog.Change(3, ChangeLog.Change.Type.DELETED, john)),
+                changes);
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record at the end of the log and keep appending after the intact ones")
+    void open_TornTail() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.wal");
+        MockEmployee john = employee("John Doe");
+        MockEmployee jane = employee("Jane Smith");
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(new ChangeLog.Change(1, ChangeLog.Change.Type.CREATED, john));
+            wal.append(new ChangeLog.Change(2, ChangeLog.Change.Type.CREATED, jane));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+
+        // When
+        List<MockEmployee> replayed = new ArrayList<>();
+        MockEmployee bob = employee("Bob Johnson");
+        try (WriteAheadLog wal = WriteAheadLog.open(file, change -> replayed.add(change.employee()))) {
+            wal.append(new ChangeLog.Change(3, ChangeLog.Change.Type.CREATED, bob));
+        }
+
+        // Then
+        assertEquals(List.of(john), replayed);
+        List<MockEmployee> afterReopen = new ArrayList<>();
+        WriteAheadLog.replay(file, change -> afterReopen.add(change.employee()));
+        assertEquals(List.of(john, bob), afterReopen);
+    }
+
+    @Test
+    @DisplayName("Should share fsyncs between concurrent appends and lose none of them")
+    void append_GroupCommit() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.wal");
+        int threads = 16;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            // When
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        wal.append(new ChangeLog.Change(0, ChangeLog.Change.Type.CREATED, employee("Employee")));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // Then
+            assertTrue(wal.getCommits() <= threads * perThread);
+            assertTrue(wal.getCommits() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+        long[] replayed = new long[1];
+        WriteAheadLog.replay(file, change -> replayed[0]++);
+        assertEquals(threads * perThread, replayed[0]);
+    }
+
+    @Test
+    @DisplayName("Should make a whole batch durable with one fsync")
+    void appendAll() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.wal");
+        List<ChangeLog.Change> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(new ChangeLog.Change(i + 1, ChangeLog.Change.Type.CREATED, employee("Employee " + i)));
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            // When
+            wal.appendAll(batch);
+
+            // Then
+            assertEquals(1, wal.getCommits());
+        }
+        List<String> names = new ArrayList<>();
+        WriteAheadLog.replay(file, change -> names.add(change.employee().getName()));
+        assertEquals(batch.stream().map(change -> change.employee().getName()).toList(), names);
+    }
+
+    @Test
+    @DisplayName("Should empty the log on checkpoint")
+    void checkpoint() throws Exception {
+        // Given
+        Path file = directory.resolve("employees.wal");
+        boolean[] ran = new boolean[1];
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(new ChangeLog.Change(1, ChangeLog.Change.Type.CREATED, employee("John Doe")));
+
+            // When
+            wal.checkpoint(() -> ran[0] = true);
+            wal.append(new ChangeLog.Change(2, ChangeLog.Change.Type.CREATED, employee("Jane Smith")));
+        }
+
+        // Then
+        assertTrue(ran[0]);
+        List<String> names = new ArrayList<>();
+        WriteAheadLog.replay(file, change -> names.add(change.employee().getName()));
+        assertEquals(List.of("Jane Smith"), names);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50000, 30, "Developer", "employee@company.com");
+    }
+}
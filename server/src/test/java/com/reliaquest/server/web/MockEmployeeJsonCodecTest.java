@@ -0,0 +1,123 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mock Employee JSON Codec Unit Tests")
+class MockEmployeeJsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockEmployee john = new MockEmployee(
+            UUID.fromString("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0"),
+            "Jöhn \"Johnny\" Doe 😀",
+            50000,
+            30,
+            "Developer\n",
+            "john@company.com");
+    private final MockEmployee sparse = new MockEmployee(UUID.randomUUID(), null, null, null, null, null);
+
+    @Test
+    @DisplayName("Should write the same bytes as Jackson databind for every response shape")
+    void toJsonBytes_MatchesDatabind() throws Exception {
+        // Given
+        List<Response<?>> responses = List.of(
+                Response.handledWith(List.of(john, sparse)),
+                Response.handledWith(List.of()),
+                Response.handledWith(john),
+                Response.handled(),
+                Response.error("Failed"));
+
+        for (Response<?> response : responses) {
+            // When
+            byte[] json = MockEmployeeJsonCodec.toJsonBytes(response);
+
+            // Then
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), json);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write Smile that databind reads back as the same response")
+    void toBytes_Smile() throws Exception {
+        // Given
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        Response<List<MockEmployee>> response = Response.handledWith(List.of(john, sparse, john));
+
+        // When
+        byte[] smile = MockEmployeeJsonCodec.toBytes(MockEmployeeJsonCodec.SMILE_FACTORY, response);
+
+        // Then
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(response)), smileMapper.readTree(smile));
+        assertTrue(smile.length < objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    @DisplayName("Should write only the masked fields, as databind writes the retained tree")
+    void writeEmployee_FieldMask() throws Exception {
+        // Given
+        int fields =
+                MockEmployeeJsonCodec.NAME_FIELD | MockEmployeeJsonCodec.AGE_FIELD | MockEmployeeJsonCodec.ID_FIELD;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (var generator = MockEmployeeJsonCodec.createGenerator(out)) {
+            MockEmployeeJsonCodec.writeEmployee(generator, john, fields);
+        }
+
+        // Then
+        ObjectNode retained = objectMapper.<ObjectNode>valueToTree(john).retain("employee_age", "id", "employee_name");
+        assertArrayEquals(objectMapper.writeValueAsBytes(retained), out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should write a query page with its cursor, and leave the cursor out on the last page")
+    void toPageBytes() throws Exception {
+        // When
+        byte[] page = MockEmployeeJsonCodec.toPageBytes(
+                List.of(john, sparse), "42", MockEmployeeJsonCodec.SALARY_FIELD | MockEmployeeJsonCodec.TITLE_FIELD);
+        byte[] last = MockEmployeeJsonCodec.toPageBytes(List.of(), null, MockEmployeeJsonCodec.ALL_FIELDS);
+
+        // Then
+        assertEquals(
+                objectMapper.readTree("{\"data\":{\"employees\":["
+                        + "{\"employee_salary\":50000,\"employee_title\":\"Developer\\n\"},"
+                        + "{\"employee_salary\":null,\"employee_title\":null}],\"nextCursor\":\"42\"},"
+                        + "\"status\":\"Successfully processed request.\"}"),
+                objectMapper.readTree(page));
+        assertEquals(
+                objectMapper.readTree("{\"data\":{\"employees\":[]},\"status\":\"Successfully processed request.\"}"),
+                objectMapper.readTree(last));
+    }
+
+    @Test
+    @DisplayName("Should write one employee per line")
+    void writeLines() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (var generator = MockEmployeeJsonCodec.createGenerator(out)) {
+            MockEmployeeJsonCodec.writeLines(generator, List.of(john, sparse));
+        }
+
+        // Then
+        assertEquals(line(john) + line(sparse), out.toString(StandardCharsets.UTF_8));
+    }
+
+    private String line(MockEmployee employee) throws Exception {
+        return new String(objectMapper.writeValueAsBytes(employee), StandardCharsets.UTF_8) + "\n";
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.server.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Wire Format Unit Tests")
+class WireFormatTest {
+
+    @Test
+    @DisplayName("Should answer JSON unless Smile is asked for by name")
+    void negotiate() {
+        // When & Then
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(null));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/json"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("not a media type"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("application/x-jackson-smile, application/json"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/json, application/x-jackson-smile"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/x-jackson-smile;q=0.5, application/json"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/x-jackson-smile;q=0"));
+    }
+}